@@ -1,25 +1,28 @@
 param(
-    [string]$TestClass = "PostsTrainingTest"
+    [string]$TestClass = "PostsTrainingTest",
+    [switch]$Daemon
 )
 
-Write-Host "Executando teste: $TestClass" -ForegroundColor Cyan
-mvn -q "-Dtest=$TestClass" test
-
-if ($LASTEXITCODE -ne 0) {
-    Write-Host "\nFalha na execução do Maven." -ForegroundColor Red
+if ($Daemon) {
+    Write-Host "Executando teste no daemon da suíte: $TestClass" -ForegroundColor Cyan
+    java -cp "target/test-classes" com.gabriel.daemon.SuiteDaemonClient run $TestClass
     exit $LASTEXITCODE
 }
 
-$reportPath = Join-Path "target\surefire-reports" ("com.gabriel.tests.{0}.txt" -f $TestClass)
-if (-not (Test-Path $reportPath)) {
-    $reportPath = Get-ChildItem "target\surefire-reports" -Filter "*.txt" |
-        Sort-Object LastWriteTime -Descending |
-        Select-Object -First 1 -ExpandProperty FullName
-}
+Write-Host "Executando teste: $TestClass" -ForegroundColor Cyan
+mvn -q -Preport "-Dtest=$TestClass" "-Dlog.capture.success.sample.rate=1" test
+$exitCode = $LASTEXITCODE
 
+# O perfil report consolida os TEST-*.xml da execução, atualiza .test-history e grava o resumo abaixo.
+$reportPath = "target\test-report.txt"
 if (Test-Path $reportPath) {
     Write-Host "\nResumo legível:" -ForegroundColor Green
-    Get-Content $reportPath
+    Get-Content $reportPath -Encoding UTF8
 } else {
-    Write-Host "\nNão foi encontrado relatório em target/surefire-reports." -ForegroundColor Yellow
+    Write-Host "\nNão foi encontrado relatório em target/test-report.txt." -ForegroundColor Yellow
+}
+
+if ($exitCode -ne 0) {
+    Write-Host "\nFalha na execução do Maven." -ForegroundColor Red
+    exit $exitCode
 }
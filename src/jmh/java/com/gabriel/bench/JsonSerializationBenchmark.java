@@ -0,0 +1,82 @@
+package com.gabriel.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gabriel.models.Post;
+import com.gabriel.payloads.PostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader postReader = objectMapper.readerFor(Post.class);
+    private Map<String, Object> updateMap;
+    private UpdatePostPayload updatePayload;
+    private byte[] postJson;
+    private String postJsonText;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        updateMap = new HashMap<>();
+        updateMap.put("id", 1);
+        updateMap.put("title", "foo");
+        updateMap.put("body", "bar");
+        updateMap.put("userId", 1);
+        updatePayload = PostPayload.update(1, "foo", "bar", 1);
+        postJson = updatePayload.toJson();
+        postJsonText = new String(postJson, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeMapBody() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(updateMap);
+    }
+
+    @Benchmark
+    public byte[] serializeTypedPayload() {
+        return updatePayload.toJson();
+    }
+
+    @Benchmark
+    public Map<String, Object> deserializePostToMap() throws IOException {
+        return objectMapper.readValue(postJson, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Post deserializeTypedPost() throws IOException {
+        return postReader.readValue(postJson);
+    }
+
+    @Benchmark
+    public Object jsonPathFieldLookup() {
+        return JsonPath.from(postJsonText).get("title");
+    }
+}
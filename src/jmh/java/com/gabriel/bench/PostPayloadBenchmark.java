@@ -0,0 +1,55 @@
+package com.gabriel.bench;
+
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PatchPostPayload;
+import com.gabriel.payloads.PostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostPayloadBenchmark {
+
+    private final String title = "foo";
+    private final String body = "bar";
+    private final int userId = 1;
+
+    @Benchmark
+    public CreatePostPayload create() {
+        return PostPayload.create(title, body, userId);
+    }
+
+    @Benchmark
+    public UpdatePostPayload update() {
+        return PostPayload.update(1, title, body, userId);
+    }
+
+    @Benchmark
+    public PatchPostPayload patch() {
+        return PostPayload.patch(title);
+    }
+
+    @Benchmark
+    public byte[] createToJson() {
+        return PostPayload.create(title, body, userId).toJson();
+    }
+
+    @Benchmark
+    public byte[] updateToJson() {
+        return PostPayload.update(1, title, body, userId).toJson();
+    }
+}
@@ -0,0 +1,51 @@
+package com.gabriel.bench;
+
+import com.gabriel.fuzz.JsonBuffer;
+import com.gabriel.fuzz.PostCase;
+import com.gabriel.fuzz.PostPayloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PostPayloadGeneratorBenchmark {
+
+    private final PostPayloadGenerator valid = new PostPayloadGenerator(42, 0);
+    private final PostPayloadGenerator mixed = new PostPayloadGenerator(42, 0.2);
+    private final JsonBuffer buffer = new JsonBuffer(4096);
+    private long index;
+
+    @Benchmark
+    public PostCase caseOnly() {
+        return valid.caseAt(index++);
+    }
+
+    // With the benchmark profile's -prof gc, gc.alloc.rate.norm here should stay near zero bytes per operation.
+    @Benchmark
+    public int validJsonIntoReusedBuffer() {
+        buffer.reset();
+        valid.writeCreateJson(index++, buffer);
+        return buffer.length();
+    }
+
+    // Mixed cases include 1M-character bodies, so this one measures the realistic fuzzing mix, not the fast path.
+    @Benchmark
+    public int mixedJsonIntoReusedBuffer() {
+        buffer.reset();
+        mixed.writeCreateJson(index++, buffer);
+        return buffer.length();
+    }
+}
@@ -0,0 +1,39 @@
+package com.gabriel.bench;
+
+import com.gabriel.config.TestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestDataBenchmark {
+
+    @Benchmark
+    public Map<String, Object> createPostData() {
+        return TestData.getCreatePostData();
+    }
+
+    @Benchmark
+    public Map<String, Object> updatePostData() {
+        return TestData.getUpdatePostData();
+    }
+
+    @Benchmark
+    public Map<String, Object> patchPostData() {
+        return TestData.getPatchPostData();
+    }
+}
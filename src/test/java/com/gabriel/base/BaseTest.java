@@ -1,16 +1,42 @@
 package com.gabriel.base;
 
 import com.gabriel.config.TestConfig;
+import com.gabriel.jfr.TestSetupEvent;
+import com.gabriel.logging.LogCaptureExtension;
+import com.gabriel.logging.LogCaptureFilter;
+import com.gabriel.metrics.LatencyBudgetExtension;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.metrics.RequestTimingFilter;
+import com.gabriel.replay.RecordReplayFilter;
+import com.gabriel.replay.ReplayMode;
+import com.gabriel.server.PostsStubServer;
 import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+@ExtendWith({LatencyBudgetExtension.class, LogCaptureExtension.class})
 public abstract class BaseTest {
 
+    static {
+        RestAssured.filters(new RequestTimingFilter(RequestMetrics.shared()), new LogCaptureFilter());
+    }
+
     @BeforeAll
-    static void globalSetup() {
-        RestAssured.requestSpecification = new RequestSpecBuilder()
-                .setContentType(TestConfig.getContentType())
-                .build();
+    static void globalSetup(TestInfo testInfo) {
+        TestSetupEvent event = new TestSetupEvent();
+        event.begin();
+        if (TestConfig.isStubServerEnabled() && RecordReplayFilter.shared().mode() != ReplayMode.STRICT) {
+            TestConfig.overrideBaseUrl(PostsStubServer.shared().getBaseUrl());
+        }
+        event.testClass = testInfo.getTestClass().map(Class::getName).orElse(null);
+        event.baseUrl = TestConfig.getBaseUrl();
+        event.commit();
+    }
+
+    // Tests of the suite's own HTTP plumbing always use the local server, whatever api.stub.enabled says, so they
+    // neither depend on nor put load on the public API.
+    protected static String localBaseUrl() {
+        return PostsStubServer.shared().getBaseUrl();
     }
 }
@@ -0,0 +1,34 @@
+package com.gabriel.batch;
+
+import com.gabriel.config.TestConfig;
+
+public record BatchOptions(int maxInFlight, double maxRatePerSecond, int maxRecordedFailures) {
+
+    public BatchOptions {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Lote precisa de ao menos uma requisição em andamento.");
+        }
+        if (maxRatePerSecond < 0) {
+            throw new IllegalArgumentException("Taxa máxima do lote não pode ser negativa.");
+        }
+        if (maxRecordedFailures < 0) {
+            throw new IllegalArgumentException("Limite de falhas registradas não pode ser negativo.");
+        }
+    }
+
+    public static BatchOptions defaults() {
+        return new BatchOptions(TestConfig.getBatchMaxInFlight(), TestConfig.getBatchRatePerSecond(), 100);
+    }
+
+    public BatchOptions withMaxInFlight(int maxInFlight) {
+        return new BatchOptions(maxInFlight, maxRatePerSecond, maxRecordedFailures);
+    }
+
+    public BatchOptions withMaxRatePerSecond(double maxRatePerSecond) {
+        return new BatchOptions(maxInFlight, maxRatePerSecond, maxRecordedFailures);
+    }
+
+    long intervalNanos() {
+        return maxRatePerSecond == 0 ? 0 : (long) (1_000_000_000L / maxRatePerSecond);
+    }
+}
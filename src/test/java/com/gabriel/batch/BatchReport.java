@@ -0,0 +1,23 @@
+package com.gabriel.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+public record BatchReport(long submitted, long succeeded, long failed, int maxObservedInFlight, Duration elapsed,
+                          List<BatchResult<?>> failures) {
+
+    public BatchReport {
+        failures = List.copyOf(failures);
+    }
+
+    public double throughputPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : submitted / seconds;
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT, "%d itens em %d ms (%.1f req/s), %d sucesso(s), %d falha(s)",
+                submitted, elapsed.toMillis(), throughputPerSecond(), succeeded, failed);
+    }
+}
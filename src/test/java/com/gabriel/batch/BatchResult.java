@@ -0,0 +1,10 @@
+package com.gabriel.batch;
+
+import java.time.Duration;
+
+public record BatchResult<T>(long index, T item, int statusCode, Duration elapsed, Throwable error) {
+
+    public boolean succeeded() {
+        return error == null && statusCode < 400;
+    }
+}
@@ -0,0 +1,119 @@
+package com.gabriel.batch;
+
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.payloads.CreatePostPayload;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public final class PostsBatch {
+
+    private final PostsEndpoint endpoint;
+    private final BatchOptions options;
+
+    public PostsBatch(PostsEndpoint endpoint) {
+        this(endpoint, BatchOptions.defaults());
+    }
+
+    public PostsBatch(PostsEndpoint endpoint, BatchOptions options) {
+        this.endpoint = endpoint;
+        this.options = options;
+    }
+
+    public BatchReport createPosts(Stream<CreatePostPayload> bodies, Consumer<BatchResult<CreatePostPayload>> onResult) {
+        return run(bodies, endpoint::createPost, onResult);
+    }
+
+    public BatchReport deletePosts(Stream<Integer> postIds, Consumer<BatchResult<Integer>> onResult) {
+        return run(postIds, endpoint::deletePost, onResult);
+    }
+
+    public <T> BatchReport run(Stream<T> items, Function<T, Response> call, Consumer<BatchResult<T>> onResult) {
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        List<BatchResult<?>> failures = new ArrayList<>();
+        AtomicReference<Throwable> callbackError = new AtomicReference<>();
+        long intervalNanos = options.intervalNanos();
+        long start = System.nanoTime();
+        long submitted = 0;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor(); items) {
+            Iterator<T> iterator = items.iterator();
+            // The first callback failure stops the batch: items already in flight finish, no new ones start.
+            while (callbackError.get() == null && iterator.hasNext()) {
+                T item = iterator.next();
+                long index = submitted++;
+                parkUntil(start + index * intervalNanos);
+                inFlight.acquireUninterruptibly();
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                workers.submit(() -> {
+                    try {
+                        BatchResult<T> result = execute(index, item, call);
+                        if (result.succeeded()) {
+                            succeeded.increment();
+                        } else {
+                            failed.increment();
+                            synchronized (failures) {
+                                if (failures.size() < options.maxRecordedFailures()) {
+                                    failures.add(result);
+                                }
+                            }
+                        }
+                        onResult.accept(result);
+                    } catch (Throwable error) {
+                        callbackError.compareAndSet(null, error);
+                    } finally {
+                        running.decrementAndGet();
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        Throwable error = callbackError.get();
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Falha ao processar resultado do lote.", error);
+        }
+        return new BatchReport(submitted, succeeded.sum(), failed.sum(), maxRunning.get(),
+                Duration.ofNanos(System.nanoTime() - start), failures);
+    }
+
+    private static <T> BatchResult<T> execute(long index, T item, Function<T, Response> call) {
+        long started = System.nanoTime();
+        try {
+            int statusCode = call.apply(item).statusCode();
+            return new BatchResult<>(index, item, statusCode, Duration.ofNanos(System.nanoTime() - started), null);
+        } catch (Exception error) {
+            return new BatchResult<>(index, item, 0, Duration.ofNanos(System.nanoTime() - started), error);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
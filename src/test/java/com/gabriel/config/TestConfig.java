@@ -1,21 +1,31 @@
 package com.gabriel.config;
 
+import com.gabriel.jfr.ResourceLoadEvent;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 public final class TestConfig {
 
     private static final Properties PROPERTIES = new Properties();
+    private static volatile String baseUrlOverride;
 
     static {
+        ResourceLoadEvent event = new ResourceLoadEvent();
+        event.begin();
         try (InputStream inputStream = openConfigStream()) {
             PROPERTIES.load(inputStream);
         } catch (IOException error) {
             throw new IllegalStateException("Falha ao carregar configurações de teste.", error);
         }
+        event.resource = "config/config.properties";
+        event.entries = PROPERTIES.size();
+        event.commit();
     }
 
     private static InputStream openConfigStream() throws IOException {
@@ -36,11 +46,364 @@ public final class TestConfig {
     private TestConfig() {
     }
 
+    private static String getProperty(String key, String defaultValue) {
+        return System.getProperty(key, PROPERTIES.getProperty(key, defaultValue));
+    }
+
     public static String getContentType() {
-        return PROPERTIES.getProperty("api.content.type", "application/json");
+        return getProperty("api.content.type", "application/json");
     }
 
     public static String getPracticeBaseUrl() {
-        return PROPERTIES.getProperty("api.practice.base.url", "https://jsonplaceholder.typicode.com");
+        return getProperty("api.practice.base.url", "https://jsonplaceholder.typicode.com");
+    }
+
+    private static int getIntProperty(String key, int defaultValue) {
+        return Integer.parseInt(getProperty(key, String.valueOf(defaultValue)).trim());
+    }
+
+    // A route-specific value is written as "key[METHOD /path]", e.g. http.socket.timeout.ms[GET /posts/{id}]=2000.
+    private static String getRouteProperty(String key, String route, String defaultValue) {
+        return getProperty(key + "[" + route + "]", getProperty(key, defaultValue)).trim();
+    }
+
+    public static boolean isStubServerEnabled() {
+        return Boolean.parseBoolean(getProperty("api.stub.enabled", "false"));
+    }
+
+    public static int getHttpPoolMaxTotal() {
+        return getIntProperty("http.pool.max.total", 64);
+    }
+
+    public static int getHttpPoolMaxPerRoute() {
+        return getIntProperty("http.pool.max.per.route", 32);
+    }
+
+    public static int getHttpPoolLeaseTimeoutMillis() {
+        return getIntProperty("http.pool.lease.timeout.ms", 5000);
+    }
+
+    public static int getHttpPoolConnectionTtlMillis() {
+        return getIntProperty("http.pool.connection.ttl.ms", 60000);
+    }
+
+    public static int getHttpKeepAliveMillis() {
+        return getIntProperty("http.keep.alive.ms", 30000);
+    }
+
+    public static int getHttpConnectTimeoutMillis() {
+        return getIntProperty("http.connect.timeout.ms", 5000);
+    }
+
+    public static int getHttpSocketTimeoutMillis() {
+        return getIntProperty("http.socket.timeout.ms", 10000);
+    }
+
+    public static int getHttpConnectTimeoutMillis(String route) {
+        return Integer.parseInt(getRouteProperty("http.connect.timeout.ms", route,
+                String.valueOf(getHttpConnectTimeoutMillis())));
+    }
+
+    public static int getHttpSocketTimeoutMillis(String route) {
+        return Integer.parseInt(getRouteProperty("http.socket.timeout.ms", route,
+                String.valueOf(getHttpSocketTimeoutMillis())));
+    }
+
+    public static int getHttpRetryMaxRetries(String route) {
+        return Integer.parseInt(getRouteProperty("http.retry.max.retries", route, "0"));
+    }
+
+    public static long getHttpRetryBackoffMillis(String route) {
+        return Long.parseLong(getRouteProperty("http.retry.backoff.ms", route, "50"));
+    }
+
+    public static long getHttpRetryMaxBackoffMillis(String route) {
+        return Long.parseLong(getRouteProperty("http.retry.backoff.max.ms", route, "1000"));
+    }
+
+    public static boolean isHttpHedgeEnabled(String route) {
+        return Boolean.parseBoolean(getRouteProperty("http.hedge.enabled", route, "false"));
+    }
+
+    public static long getHttpHedgeMinDelayMillis(String route) {
+        return Long.parseLong(getRouteProperty("http.hedge.min.delay.ms", route, "50"));
+    }
+
+    public static int getHttpHedgeMinSamples(String route) {
+        return Integer.parseInt(getRouteProperty("http.hedge.min.samples", route, "20"));
+    }
+
+    public static boolean isHttpCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("http.cache.enabled", "false"));
+    }
+
+    public static int getHttpCacheTtlMillis() {
+        return getIntProperty("http.cache.ttl.ms", 30000);
+    }
+
+    public static int getHttpCacheMaxEntries() {
+        return getIntProperty("http.cache.max.entries", 256);
+    }
+
+    public static boolean isHttpCompressionEnabled() {
+        return Boolean.parseBoolean(getProperty("http.compression.enabled", "false"));
+    }
+
+    public static int getHttpCompressionRequestMinBytes() {
+        return getIntProperty("http.compression.request.min.bytes", 1024);
+    }
+
+    public static String getReplayMode() {
+        return getProperty("http.replay.mode", "off");
+    }
+
+    public static String getReplayFile() {
+        return getProperty("http.replay.file", "src/test/resources/replay/posts-interactions.ndjson");
+    }
+
+    public static String getLoadModel() {
+        return getProperty("load.model", "closed");
+    }
+
+    public static int getLoadUsers() {
+        return getIntProperty("load.users", 16);
+    }
+
+    public static int getLoadRatePerSecond() {
+        return getIntProperty("load.rate.per.second", 200);
+    }
+
+    public static int getLoadPacingMillis() {
+        return getIntProperty("load.pacing.ms", 0);
+    }
+
+    public static int getLoadDurationSeconds() {
+        return getIntProperty("load.duration.seconds", 30);
+    }
+
+    public static double getLoadMaxErrorRate() {
+        return Double.parseDouble(getProperty("load.max.error.rate", "0.01"));
+    }
+
+    public static int getLoadWorkers() {
+        return getIntProperty("load.workers", 1);
+    }
+
+    public static List<String> getLoadWorkerHosts() {
+        return Arrays.stream(getProperty("load.worker.hosts", "").split(","))
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .toList();
+    }
+
+    public static String getLoadWorkerJvmArgs() {
+        return getProperty("load.worker.jvm.args", "-Xmx256m");
+    }
+
+    // Blank means the same path as the coordinator's checkout.
+    public static String getLoadWorkerRemoteDir() {
+        String directory = getProperty("load.worker.remote.dir", "");
+        return directory.isBlank() ? System.getProperty("user.dir") : directory;
+    }
+
+    public static String getLoadWorkerRemoteCommand() {
+        return getProperty("load.worker.remote.command",
+                "java -cp 'target/test-classes:target/classes:target/dependency/*' com.gabriel.load.LoadWorker");
+    }
+
+    public static int getLoadStartDelayMillis() {
+        return getIntProperty("load.start.delay.ms", 1000);
+    }
+
+    public static boolean isLoadGeneratedPayloads() {
+        return Boolean.parseBoolean(getProperty("load.payload.generated", "false"));
+    }
+
+    public static long getPayloadGeneratorSeed() {
+        return Long.parseLong(getProperty("payload.generator.seed", "42").trim());
+    }
+
+    public static double getPayloadEdgeCaseRatio() {
+        return Double.parseDouble(getProperty("payload.generator.edge.ratio", "0.2"));
+    }
+
+    public static int getSoakDurationSeconds() {
+        return getIntProperty("soak.duration.seconds", 3600);
+    }
+
+    public static int getSoakWarmupSeconds() {
+        return getIntProperty("soak.warmup.seconds", 300);
+    }
+
+    public static int getSoakSampleIntervalMillis() {
+        return getIntProperty("soak.sample.interval.ms", 5000);
+    }
+
+    public static int getSoakUsers() {
+        return getIntProperty("soak.users", 8);
+    }
+
+    public static int getSoakPacingMillis() {
+        return getIntProperty("soak.pacing.ms", 50);
+    }
+
+    public static String getLoadOutputFile() {
+        return getProperty("load.output.file", "target/load/load-summary.txt");
+    }
+
+    public static String getSoakOutputFile() {
+        return getProperty("soak.output.file", "target/soak/soak-samples.csv");
+    }
+
+    public static double getSoakMaxHeapGrowthMb() {
+        return Double.parseDouble(getProperty("soak.max.heap.growth.mb", "64"));
+    }
+
+    public static double getSoakMaxConnectionGrowth() {
+        return Double.parseDouble(getProperty("soak.max.connection.growth", "4"));
+    }
+
+    public static double getSoakMaxThreadGrowth() {
+        return Double.parseDouble(getProperty("soak.max.thread.growth", "16"));
+    }
+
+    public static int getBatchMaxInFlight() {
+        return getIntProperty("batch.max.in.flight", 16);
+    }
+
+    public static double getBatchRatePerSecond() {
+        return Double.parseDouble(getProperty("batch.rate.per.second", "0"));
+    }
+
+    public static int getLogCaptureMaxEntries() {
+        return getIntProperty("log.capture.max.entries", 200);
+    }
+
+    public static int getLogCaptureMaxBodyChars() {
+        return getIntProperty("log.capture.max.body.chars", 2000);
+    }
+
+    public static double getLogCaptureSuccessSampleRate() {
+        return Double.parseDouble(getProperty("log.capture.success.sample.rate", "0"));
+    }
+
+    public static String getLogCaptureFile() {
+        return getProperty("log.capture.file", "target/test-logs/captured.log");
+    }
+
+    public static int getDaemonPort() {
+        return getIntProperty("daemon.port", 0);
+    }
+
+    public static String getDaemonPortFile() {
+        return getProperty("daemon.port.file", "target/suite-daemon.port");
+    }
+
+    public static String getDaemonTestClassesDir() {
+        return getProperty("daemon.test.classes.dir", "target/test-classes");
+    }
+
+    public static int getShardCount() {
+        return getIntProperty("shard.count", 1);
+    }
+
+    public static int getShardIndex() {
+        return getIntProperty("shard.index", 0);
+    }
+
+    public static String getReportInputDir() {
+        return getProperty("report.input.dir", "target/surefire-reports");
+    }
+
+    public static String getReportHistoryDir() {
+        return getProperty("report.history.dir", ".test-history");
+    }
+
+    public static int getReportHistoryWindow() {
+        return getIntProperty("report.history.window", 20);
+    }
+
+    public static String getReportOutputFile() {
+        return getProperty("report.output.file", "target/test-report.txt");
+    }
+
+    public static int getReportSlowestCount() {
+        return getIntProperty("report.slowest.count", 10);
+    }
+
+    public static double getReportRegressionFactor() {
+        return Double.parseDouble(getProperty("report.regression.factor", "1.5"));
+    }
+
+    public static long getReportRegressionMinDeltaMillis() {
+        return getIntProperty("report.regression.min.delta.ms", 100);
+    }
+
+    public static int getReportRegressionMinSamples() {
+        return getIntProperty("report.regression.min.samples", 3);
+    }
+
+    public static int getReportFlakyMinFlips() {
+        return getIntProperty("report.flaky.min.flips", 2);
+    }
+
+    public static boolean isReportFailOnFailures() {
+        return Boolean.parseBoolean(getProperty("report.fail.on.failures", "true"));
+    }
+
+    public static String getShardHistoryDir() {
+        return getProperty("shard.history.dir", ".test-history");
+    }
+
+    public static String getMetricsOutputDir() {
+        return getProperty("metrics.output.dir", "target/metrics");
+    }
+
+    public static boolean isLatencyBudgetEnabled() {
+        return Boolean.parseBoolean(getProperty("latency.budget.enabled", "false"));
+    }
+
+    public static String getPerfBaselineFile() {
+        return getProperty("perf.baseline.file", "perf/latency-baseline.json");
+    }
+
+    public static boolean isPerfBaselineUpdate() {
+        return Boolean.parseBoolean(getProperty("perf.baseline.update", "false"));
+    }
+
+    public static int getPerfBaselineRuns() {
+        return getIntProperty("perf.baseline.runs", 5);
+    }
+
+    public static double getPerfGateSigmas() {
+        return Double.parseDouble(getProperty("perf.gate.sigmas", "3"));
+    }
+
+    public static int getPerfGateMinRuns() {
+        return getIntProperty("perf.gate.min.runs", 3);
+    }
+
+    public static double getPerfGateSlackMillis() {
+        return Double.parseDouble(getProperty("perf.gate.slack.ms", "5"));
+    }
+
+    public static int getPerfGateMinSamples() {
+        return getIntProperty("perf.gate.min.samples", 20);
+    }
+
+    public static List<Double> getPerfGatePercentiles() {
+        return Arrays.stream(getProperty("perf.gate.percentiles", "50,95").split(","))
+                .map(String::trim)
+                .map(Double::valueOf)
+                .toList();
+    }
+
+    public static String getBaseUrl() {
+        String override = baseUrlOverride;
+        return override != null ? override : getPracticeBaseUrl();
+    }
+
+    public static void overrideBaseUrl(String baseUrl) {
+        baseUrlOverride = baseUrl;
     }
 }
@@ -3,21 +3,40 @@ package com.gabriel.config;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.jfr.ResourceLoadEvent;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class TestData {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final JsonNode ROOT = loadRoot();
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {
+    };
+    private static final Map<String, Map<String, Object>> RECORDS = loadRecords();
 
     private TestData() {
     }
 
+    private static Map<String, Map<String, Object>> loadRecords() {
+        ResourceLoadEvent event = new ResourceLoadEvent();
+        event.begin();
+        Map<String, Map<String, Object>> records = indexRecords(loadRoot());
+        event.resource = "data/tests-data.json";
+        event.entries = records.size();
+        event.commit();
+        return records;
+    }
+
     private static JsonNode loadRoot() {
         try (InputStream inputStream = openTestDataStream()) {
             return OBJECT_MAPPER.readTree(inputStream);
@@ -40,18 +59,57 @@ public final class TestData {
         throw new IllegalStateException("Arquivo data/tests-data.json não encontrado.");
     }
 
+    private static Map<String, Map<String, Object>> indexRecords(JsonNode root) {
+        Map<String, Map<String, Object>> records = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> groups = root.fields(); groups.hasNext(); ) {
+            Map.Entry<String, JsonNode> group = groups.next();
+            for (Iterator<Map.Entry<String, JsonNode>> entries = group.getValue().fields(); entries.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                if (entry.getValue().isObject()) {
+                    Map<String, Object> converted = OBJECT_MAPPER.convertValue(entry.getValue(), RECORD_TYPE);
+                    records.put(group.getKey() + "." + entry.getKey(), freezeMap(converted));
+                }
+            }
+        }
+        return Map.copyOf(records);
+    }
+
+    private static Map<String, Object> freezeMap(Map<String, Object> source) {
+        Map<String, Object> frozen = new LinkedHashMap<>();
+        source.forEach((key, value) -> frozen.put(key, freeze(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return freezeMap((Map<String, Object>) map);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> frozen = new ArrayList<>(list.size());
+            list.forEach(item -> frozen.add(freeze(item)));
+            return Collections.unmodifiableList(frozen);
+        }
+        return value;
+    }
+
+    public static Map<String, Object> get(String key) {
+        Map<String, Object> record = RECORDS.get(key);
+        if (record == null) {
+            throw new IllegalArgumentException("Massa de teste não encontrada: " + key);
+        }
+        return record;
+    }
+
     public static Map<String, Object> getCreatePostData() {
-        return OBJECT_MAPPER.convertValue(ROOT.path("posts").path("create"), new TypeReference<>() {
-        });
+        return get("posts.create");
     }
 
     public static Map<String, Object> getUpdatePostData() {
-        return OBJECT_MAPPER.convertValue(ROOT.path("posts").path("update"), new TypeReference<>() {
-        });
+        return get("posts.update");
     }
 
     public static Map<String, Object> getPatchPostData() {
-        return OBJECT_MAPPER.convertValue(ROOT.path("posts").path("patch"), new TypeReference<>() {
-        });
+        return get("posts.patch");
     }
 }
@@ -0,0 +1,235 @@
+package com.gabriel.daemon;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.config.TestData;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.server.PostsStubServer;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public final class SuiteDaemon implements AutoCloseable {
+
+    static final String END = "END";
+    private static final String TESTS_PACKAGE = "com.gabriel.tests";
+
+    private final Launcher launcher = LauncherFactory.create();
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+
+    private SuiteDaemon(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        acceptor = Thread.ofPlatform().name("suite-daemon").start(this::acceptLoop);
+    }
+
+    public static SuiteDaemon start(int port) {
+        try {
+            return new SuiteDaemon(port);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao iniciar o daemon da suíte na porta " + port + ".", error);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        warmUp();
+        try (SuiteDaemon daemon = start(TestConfig.getDaemonPort())) {
+            Path portFile = Path.of(TestConfig.getDaemonPortFile());
+            Files.createDirectories(portFile.toAbsolutePath().getParent());
+            Files.writeString(portFile, String.valueOf(daemon.getPort()));
+            System.out.println("Daemon da suíte ouvindo em 127.0.0.1:" + daemon.getPort()
+                    + " (porta gravada em " + portFile + ")");
+            daemon.acceptor.join();
+        }
+    }
+
+    private static void warmUp() {
+        TestData.get("posts.create");
+        if (TestConfig.isStubServerEnabled()) {
+            TestConfig.overrideBaseUrl(PostsStubServer.shared().getBaseUrl());
+        }
+        new PostsEndpoint().getPosts();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao encerrar o daemon da suíte.", error);
+        }
+    }
+
+    // Only a closed server socket ends the loop; a broken client connection or a failing command must not leave
+    // the JVM up without anyone accepting.
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException error) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Falha ao aceitar conexão do cliente do daemon: " + error.getMessage());
+                }
+                continue;
+            }
+            serve(socket);
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (Socket socket = connection;
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter output = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String command = input.readLine();
+            if (command != null) {
+                handle(command.trim(), output);
+            }
+        } catch (IOException error) {
+            System.err.println("Falha na conexão com o cliente do daemon: " + error.getMessage());
+        }
+    }
+
+    private void handle(String command, PrintWriter output) {
+        List<String> words = Arrays.asList(command.split("\\s+"));
+        try {
+            switch (words.get(0).toLowerCase(Locale.ROOT)) {
+                case "ping" -> output.println("PONG");
+                case "run" -> run(words.subList(1, words.size()), output);
+                case "stop" -> {
+                    output.println("Encerrando daemon.");
+                    close();
+                }
+                default -> output.println("ERRO comando desconhecido: " + command);
+            }
+        } catch (RuntimeException error) {
+            output.println("ERRO " + error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+        output.println(END);
+    }
+
+    // Every run gets a fresh loader over the classes directory, so `mvn test-compile` is picked up without a restart.
+    private void run(List<String> targets, PrintWriter output) {
+        try (TestClassLoader classLoader = TestClassLoader.over(Path.of(TestConfig.getDaemonTestClassesDir()),
+                TESTS_PACKAGE, SuiteDaemon.class.getClassLoader())) {
+            run(targets, classLoader, output);
+        } catch (IllegalArgumentException error) {
+            output.println("ERRO " + error.getMessage());
+        }
+    }
+
+    private void run(List<String> targets, ClassLoader classLoader, PrintWriter output) {
+        List<DiscoverySelector> selectors = new ArrayList<>();
+        targets.forEach(target -> selectors.add(selectorOf(target, classLoader)));
+
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request();
+        if (selectors.isEmpty()) {
+            request.selectors(DiscoverySelectors.selectPackage(TESTS_PACKAGE)).filters(TagFilter.excludeTags("load", "soak"));
+        } else {
+            request.selectors(selectors);
+        }
+
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        long started = System.nanoTime();
+        execute(request.build(), classLoader, summary, new ResultWriter(output));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        TestExecutionSummary result = summary.getSummary();
+        output.printf(Locale.ROOT, "RESULT total=%d passed=%d failed=%d skipped=%d millis=%d%n",
+                result.getTestsFoundCount(), result.getTestsSucceededCount(),
+                result.getTestsFailedCount() + result.getTestsAbortedCount(), result.getTestsSkippedCount(),
+                elapsedMillis);
+    }
+
+    private synchronized void execute(LauncherDiscoveryRequest request, ClassLoader classLoader,
+                                      TestExecutionListener... listeners) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            launcher.execute(request, listeners);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static DiscoverySelector selectorOf(String target, ClassLoader classLoader) {
+        String qualified = target.contains(".") ? target : TESTS_PACKAGE + "." + target;
+        int separator = qualified.indexOf('#');
+        String className = separator < 0 ? qualified : qualified.substring(0, separator);
+        try {
+            Class<?> testClass = Class.forName(className, false, classLoader);
+            return separator < 0
+                    ? DiscoverySelectors.selectClass(testClass)
+                    : DiscoverySelectors.selectMethod(testClass, qualified.substring(separator + 1));
+        } catch (ClassNotFoundException error) {
+            throw new IllegalArgumentException("classe de teste não encontrada: " + className, error);
+        }
+    }
+
+    private static final class ResultWriter implements TestExecutionListener {
+
+        private final PrintWriter output;
+
+        private ResultWriter(PrintWriter output) {
+            this.output = output;
+        }
+
+        @Override
+        public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+            if (testIdentifier.isTest()) {
+                output.println("SKIPPED " + nameOf(testIdentifier) + " - " + reason);
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+            if (!testIdentifier.isTest() && result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) {
+                return;
+            }
+            String line = result.getStatus() + " " + nameOf(testIdentifier);
+            output.println(result.getThrowable()
+                    .map(error -> line + " - " + String.valueOf(error.getMessage()).strip().lines().findFirst().orElse(""))
+                    .orElse(line));
+        }
+
+        private static String nameOf(TestIdentifier testIdentifier) {
+            return testIdentifier.getSource()
+                    .filter(MethodSource.class::isInstance)
+                    .map(MethodSource.class::cast)
+                    .map(source -> source.getClassName().replace(TESTS_PACKAGE + ".", "") + "#" + source.getMethodName())
+                    .orElse(testIdentifier.getDisplayName());
+        }
+    }
+}
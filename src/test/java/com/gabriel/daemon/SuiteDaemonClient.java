@@ -0,0 +1,60 @@
+package com.gabriel.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SuiteDaemonClient {
+
+    private static final String DEFAULT_PORT_FILE = "target/suite-daemon.port";
+
+    private SuiteDaemonClient() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String command = args.length == 0 ? "run" : String.join(" ", args);
+        List<String> response = send(resolvePort(), command);
+        response.forEach(System.out::println);
+        boolean failed = response.stream().anyMatch(line -> line.startsWith("ERRO")
+                || line.startsWith("RESULT") && !line.contains(" failed=0 "));
+        System.exit(failed ? 1 : 0);
+    }
+
+    public static List<String> send(int port, String command) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             PrintWriter output = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            output.println(command);
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = input.readLine()) != null && !SuiteDaemon.END.equals(line)) {
+                lines.add(line);
+            }
+            return lines;
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao falar com o daemon da suíte na porta " + port + ".", error);
+        }
+    }
+
+    private static int resolvePort() throws IOException {
+        String port = System.getProperty("daemon.port");
+        if (port != null && !"0".equals(port)) {
+            return Integer.parseInt(port);
+        }
+        Path portFile = Path.of(System.getProperty("daemon.port.file", DEFAULT_PORT_FILE));
+        if (!Files.exists(portFile)) {
+            throw new IllegalStateException("Daemon da suíte não está rodando (" + portFile + " não encontrado).");
+        }
+        return Integer.parseInt(Files.readString(portFile).trim());
+    }
+}
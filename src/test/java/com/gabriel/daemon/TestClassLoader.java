@@ -0,0 +1,62 @@
+package com.gabriel.daemon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Child-first only for the test classes themselves: each run sees the latest bytecode from the classes directory,
+// while the infrastructure (BaseTest, TestConfig, stub server, connection pool) stays loaded and warm in the parent.
+final class TestClassLoader extends URLClassLoader {
+
+    private final String reloadedPackage;
+
+    private TestClassLoader(URL classesDir, String reloadedPackage, ClassLoader parent) {
+        super("suite-daemon-run", new URL[]{classesDir}, parent);
+        this.reloadedPackage = reloadedPackage + ".";
+    }
+
+    static TestClassLoader over(Path classesDir, String reloadedPackage, ClassLoader parent) {
+        if (!Files.isDirectory(classesDir)) {
+            throw new IllegalArgumentException("diretório de classes de teste não encontrado: " + classesDir);
+        }
+        try {
+            return new TestClassLoader(classesDir.toUri().toURL(), reloadedPackage, parent);
+        } catch (MalformedURLException error) {
+            throw new IllegalArgumentException("diretório de classes de teste inválido: " + classesDir, error);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(reloadedPackage)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                try {
+                    loaded = findClass(name);
+                } catch (ClassNotFoundException notRecompiled) {
+                    loaded = super.loadClass(name, false);
+                }
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao liberar as classes de teste da execução.", error);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.gabriel.data;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class NdjsonArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<NdjsonSource> {
+
+    private NdjsonSource source;
+
+    @Override
+    public void accept(NdjsonSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        Stream<?> records = source.type() == Map.class
+                ? NdjsonRecords.stream(source.value())
+                : NdjsonRecords.stream(source.value(), source.type());
+        if (source.limit() >= 0) {
+            records = records.limit(source.limit());
+        }
+        return records.map(Arguments::of);
+    }
+}
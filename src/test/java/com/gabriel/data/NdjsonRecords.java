@@ -0,0 +1,93 @@
+package com.gabriel.data;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class NdjsonRecords {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader MAP_READER = OBJECT_MAPPER.readerFor(new TypeReference<Map<String, Object>>() {
+    });
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return OBJECT_MAPPER.readerFor(type);
+        }
+    };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private NdjsonRecords() {
+    }
+
+    public static Stream<Map<String, Object>> stream(String resource) {
+        return stream(open(resource), MAP_READER);
+    }
+
+    public static <T> Stream<T> stream(String resource, Class<T> type) {
+        return stream(open(resource), READERS.get(type));
+    }
+
+    public static <T> Stream<T> stream(Path path, Class<T> type) {
+        try {
+            return stream(Files.newInputStream(path), READERS.get(type));
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao abrir arquivo NDJSON " + path + ".", error);
+        }
+    }
+
+    private static <T> Stream<T> stream(InputStream inputStream, ObjectReader reader) {
+        try {
+            MappingIterator<T> records = reader.readValues(new BufferedInputStream(inputStream, BUFFER_SIZE));
+            Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(records,
+                    Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            return StreamSupport.stream(spliterator, false).onClose(() -> close(records));
+        } catch (IOException error) {
+            close(inputStream);
+            throw new UncheckedIOException("Falha ao ler arquivo NDJSON.", error);
+        }
+    }
+
+    private static InputStream open(String resource) {
+        InputStream classpathStream = NdjsonRecords.class.getClassLoader().getResourceAsStream(resource);
+        if (classpathStream != null) {
+            return classpathStream;
+        }
+
+        Path fallbackPath = Path.of("src", "test", "resources").resolve(resource);
+        try {
+            if (Files.exists(fallbackPath)) {
+                return Files.newInputStream(fallbackPath);
+            }
+            Path directPath = Path.of(resource);
+            if (Files.exists(directPath)) {
+                return Files.newInputStream(directPath);
+            }
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao abrir arquivo NDJSON " + resource + ".", error);
+        }
+
+        throw new IllegalStateException("Arquivo " + resource + " não encontrado.");
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception error) {
+            throw new IllegalStateException("Falha ao fechar arquivo NDJSON.", error);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.gabriel.data;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(NdjsonArgumentsProvider.class)
+public @interface NdjsonSource {
+
+    String value();
+
+    Class<?> type() default Map.class;
+
+    long limit() default -1;
+}
@@ -0,0 +1,133 @@
+package com.gabriel.endpoints;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gabriel.models.Comment;
+import com.gabriel.models.Post;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class ApiResponse {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader POST_READER = OBJECT_MAPPER.readerFor(Post.class);
+    private static final ObjectReader COMMENT_READER = OBJECT_MAPPER.readerFor(Comment.class);
+
+    private final Response response;
+    private final byte[] body;
+    private JsonNode tree;
+    private Post post;
+    private List<Post> posts;
+    private List<Comment> comments;
+
+    private ApiResponse(Response response) {
+        this.response = response;
+        this.body = response.asByteArray();
+    }
+
+    public static ApiResponse of(Response response) {
+        return new ApiResponse(response);
+    }
+
+    public Response raw() {
+        return response;
+    }
+
+    public int statusCode() {
+        return response.statusCode();
+    }
+
+    public byte[] body() {
+        return body;
+    }
+
+    public JsonNode tree() {
+        if (tree == null) {
+            tree = read(() -> OBJECT_MAPPER.readTree(body));
+        }
+        return tree;
+    }
+
+    public Post asPost() {
+        if (post == null) {
+            post = read(() -> POST_READER.readValue(body));
+        }
+        return post;
+    }
+
+    public List<Post> asPosts() {
+        if (posts == null) {
+            List<Post> collected = new ArrayList<>();
+            forEachPost(collected::add);
+            posts = List.copyOf(collected);
+        }
+        return posts;
+    }
+
+    public List<Comment> asComments() {
+        if (comments == null) {
+            List<Comment> collected = new ArrayList<>();
+            forEachComment(collected::add);
+            comments = List.copyOf(collected);
+        }
+        return comments;
+    }
+
+    // The pooled client buffers every entity (wire-byte accounting, decompression) and the cache, replay and log
+    // filters read it too, so this walks the in-memory body item by item: no list is built, but it is not
+    // parsing while the response is still arriving. streamPosts/streamComments do that for a live InputStream.
+    public int forEachPost(Consumer<? super Post> action) {
+        return posts != null ? replay(posts, action) : stream(new ByteArrayInputStream(body), POST_READER, action);
+    }
+
+    public int forEachComment(Consumer<? super Comment> action) {
+        return comments != null ? replay(comments, action) : stream(new ByteArrayInputStream(body), COMMENT_READER, action);
+    }
+
+    public static int streamPosts(InputStream inputStream, Consumer<? super Post> action) {
+        return stream(inputStream, POST_READER, action);
+    }
+
+    public static int streamComments(InputStream inputStream, Consumer<? super Comment> action) {
+        return stream(inputStream, COMMENT_READER, action);
+    }
+
+    private static <T> int stream(InputStream inputStream, ObjectReader reader, Consumer<? super T> action) {
+        int count = 0;
+        try (MappingIterator<T> items = reader.readValues(inputStream)) {
+            while (items.hasNextValue()) {
+                action.accept(items.nextValue());
+                count++;
+            }
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao ler resposta JSON.", error);
+        }
+        return count;
+    }
+
+    private static <T> int replay(List<T> items, Consumer<? super T> action) {
+        items.forEach(action);
+        return items.size();
+    }
+
+    private static <T> T read(JsonRead<T> read) {
+        try {
+            return read.read();
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao ler resposta JSON.", error);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonRead<T> {
+        T read() throws IOException;
+    }
+}
@@ -0,0 +1,148 @@
+package com.gabriel.endpoints;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.jfr.EndpointCallEvent;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.JsonPayload;
+import com.gabriel.payloads.PatchPostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncPostsEndpoint {
+
+    private static final HttpClient SHARED_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(TestConfig.getHttpConnectTimeoutMillis()))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String contentType;
+    private final Duration requestTimeout = Duration.ofMillis(TestConfig.getHttpSocketTimeoutMillis());
+
+    public AsyncPostsEndpoint() {
+        this(TestConfig.getBaseUrl());
+    }
+
+    public AsyncPostsEndpoint(String baseUrl) {
+        this(SHARED_CLIENT, baseUrl);
+    }
+
+    public AsyncPostsEndpoint(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.contentType = TestConfig.getContentType();
+    }
+
+    public CompletableFuture<Response> getPostsAsync() {
+        return send("GET", "/posts", "/posts", null);
+    }
+
+    public CompletableFuture<Response> getPostByIdAsync(int postId) {
+        return send("GET", "/posts/{id}", "/posts/" + postId, null);
+    }
+
+    public CompletableFuture<Response> getPostsByUserIdAsync(int userId) {
+        return send("GET", "/posts", "/posts?userId=" + userId, null);
+    }
+
+    public CompletableFuture<Response> getCommentsByPostIdAsync(int postId) {
+        return send("GET", "/posts/{id}/comments", "/posts/" + postId + "/comments", null);
+    }
+
+    public CompletableFuture<Response> createPostAsync(CreatePostPayload body) {
+        return send("POST", "/posts", "/posts", body);
+    }
+
+    public CompletableFuture<Response> updatePostAsync(int postId, UpdatePostPayload body) {
+        return send("PUT", "/posts/{id}", "/posts/" + postId, body);
+    }
+
+    public CompletableFuture<Response> patchPostAsync(int postId, PatchPostPayload body) {
+        return send("PATCH", "/posts/{id}", "/posts/" + postId, body);
+    }
+
+    public CompletableFuture<Response> deletePostAsync(int postId) {
+        return send("DELETE", "/posts/{id}", "/posts/" + postId, null);
+    }
+
+    private CompletableFuture<Response> send(String method, String template, String path, JsonPayload body) {
+        byte[] json = body == null ? null : body.toJson();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", contentType)
+                .header("Accept", "application/json")
+                .method(method, json == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+
+        String route = method + " " + template;
+        // The completion runs on an HttpClient thread, so the caller's test scope is captured here. The JDK client
+        // does not expose connect time, so it is recorded as 0.
+        Optional<RequestMetrics> scope = RequestMetrics.currentScope();
+        EndpointCallEvent event = new EndpointCallEvent();
+        event.begin();
+        long started = System.nanoTime();
+        AtomicLong firstByteAt = new AtomicLong();
+        HttpResponse.BodyHandler<byte[]> handler = responseInfo -> {
+            firstByteAt.set(System.nanoTime());
+            return HttpResponse.BodySubscribers.ofByteArray();
+        };
+
+        return client.sendAsync(request, handler).whenComplete((response, error) -> {
+            long finished = System.nanoTime();
+            long firstByte = firstByteAt.get() == 0 ? finished : firstByteAt.get();
+            long requestBytes = json == null ? 0 : json.length;
+            long responseBytes = response == null ? 0 : response.body().length;
+            boolean failed = response == null || response.statusCode() >= 500;
+            RequestMetrics.shared().record(route, finished - started, firstByte - started, 0,
+                    requestBytes, responseBytes, failed);
+            scope.ifPresent(metrics -> metrics.record(route, finished - started, firstByte - started, 0,
+                    requestBytes, responseBytes, failed));
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.route = template;
+                event.status = response == null ? 0 : response.statusCode();
+                event.requestBytes = requestBytes;
+                event.responseBytes = responseBytes;
+                event.requestWireBytes = requestBytes;
+                event.responseWireBytes = responseBytes;
+                event.timeToFirstByte = firstByte - started;
+                event.commit();
+            }
+        }).thenApply(AsyncPostsEndpoint::toResponse);
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+                .setBody(response.body())
+                .build();
+    }
+}
@@ -1,69 +1,142 @@
 package com.gabriel.endpoints;
 
 import com.gabriel.config.TestConfig;
+import com.gabriel.http.CompressionPolicy;
+import com.gabriel.http.HttpCompression;
+import com.gabriel.http.PooledHttpClientFactory;
+import com.gabriel.http.RequestCompressionFilter;
+import com.gabriel.http.ResilientCaller;
+import com.gabriel.http.ResponseCache;
+import com.gabriel.jfr.EndpointCallEventFilter;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PatchPostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import com.gabriel.replay.RecordReplayFilter;
+import com.gabriel.replay.ReplayMode;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
-import java.util.Map;
+import java.util.function.Function;
 
 import static io.restassured.RestAssured.given;
 
 public class PostsEndpoint {
 
-    private RequestSpecification request() {
-        return given()
-                .baseUri(TestConfig.getPracticeBaseUrl());
+    private static final EndpointCallEventFilter CALL_EVENTS = new EndpointCallEventFilter();
+
+    private final RequestSpecification baseSpec;
+    private final ResilientCaller caller;
+
+    public PostsEndpoint() {
+        this(TestConfig.getBaseUrl());
+    }
+
+    public PostsEndpoint(String baseUrl) {
+        this(baseUrl, TestConfig.isHttpCacheEnabled() ? ResponseCache.shared() : null);
+    }
+
+    public PostsEndpoint(String baseUrl, ResponseCache responseCache) {
+        this(baseUrl, responseCache, ResilientCaller.shared());
+    }
+
+    public PostsEndpoint(String baseUrl, ResponseCache responseCache, ResilientCaller caller) {
+        this(baseUrl, responseCache, caller, CompressionPolicy.fromConfig());
+    }
+
+    public PostsEndpoint(String baseUrl, ResponseCache responseCache, ResilientCaller caller,
+                         CompressionPolicy compression) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(TestConfig.getContentType())
+                .setConfig(PooledHttpClientFactory.shared().restAssuredConfig())
+                .addFilter(CALL_EVENTS);
+        if (RecordReplayFilter.shared().mode() != ReplayMode.OFF) {
+            builder.addFilter(RecordReplayFilter.shared());
+        }
+        if (responseCache != null) {
+            builder.addFilter(responseCache.filter());
+        }
+        if (compression.enabled()) {
+            builder.addHeader("Accept-Encoding", HttpCompression.ACCEPT_ENCODING)
+                    .addFilter(new RequestCompressionFilter(compression.requestMinBytes()));
+        }
+        this.baseSpec = builder.build();
+        this.caller = caller;
+    }
+
+    private Response send(String method, String path, Function<RequestSpecification, Response> call) {
+        String route = method + " " + path;
+        RestAssuredConfig config = PooledHttpClientFactory.shared().restAssuredConfig(caller.policyFor(route));
+        return caller.call(route, () -> call.apply(given()
+                .spec(baseSpec)
+                .config(config)));
     }
 
     public Response getPosts() {
-        return request()
+        return send("GET", "/posts", request -> request
                 .when()
-                .get("/posts");
+                .get("/posts"));
     }
 
     public Response getPostById(int postId) {
-        return request()
+        return send("GET", "/posts/{id}", request -> request
                 .when()
-                .get("/posts/{id}", postId);
+                .get("/posts/{id}", postId));
     }
 
     public Response getPostsByUserId(int userId) {
-        return request()
+        return send("GET", "/posts", request -> request
                 .queryParam("userId", userId)
                 .when()
-                .get("/posts");
+                .get("/posts"));
     }
 
     public Response getCommentsByPostId(int postId) {
-        return request()
+        return send("GET", "/posts/{id}/comments", request -> request
+                .when()
+                .get("/posts/{id}/comments", postId));
+    }
+
+    public Response createPost(CreatePostPayload body) {
+        return send("POST", "/posts", request -> request
+                .body(body.toJson())
+                .when()
+                .post("/posts"));
+    }
+
+    public Response createPost(byte[] json) {
+        return send("POST", "/posts", request -> request
+                .body(json)
                 .when()
-                .get("/posts/{id}/comments", postId);
+                .post("/posts"));
     }
 
-    public Response createPost(Map<String, Object> body) {
-        return request()
-                .body(body)
+    public Response updatePost(int postId, UpdatePostPayload body) {
+        return send("PUT", "/posts/{id}", request -> request
+                .body(body.toJson())
                 .when()
-                .post("/posts");
+                .put("/posts/{id}", postId));
     }
 
-    public Response updatePost(int postId, Map<String, Object> body) {
-        return request()
-                .body(body)
+    public Response updatePost(int postId, byte[] json) {
+        return send("PUT", "/posts/{id}", request -> request
+                .body(json)
                 .when()
-                .put("/posts/{id}", postId);
+                .put("/posts/{id}", postId));
     }
 
-    public Response patchPost(int postId, Map<String, Object> body) {
-        return request()
-                .body(body)
+    public Response patchPost(int postId, PatchPostPayload body) {
+        return send("PATCH", "/posts/{id}", request -> request
+                .body(body.toJson())
                 .when()
-                .patch("/posts/{id}", postId);
+                .patch("/posts/{id}", postId));
     }
 
     public Response deletePost(int postId) {
-        return request()
+        return send("DELETE", "/posts/{id}", request -> request
                 .when()
-                .delete("/posts/{id}", postId);
+                .delete("/posts/{id}", postId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.gabriel.fuzz;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class GeneratedPostArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<GeneratedPostSource> {
+
+    private static final String SEED_OVERRIDE = "payload.generator.seed";
+
+    private GeneratedPostSource source;
+
+    @Override
+    public void accept(GeneratedPostSource source) {
+        this.source = source;
+    }
+
+    // -Dpayload.generator.seed replaces the annotation seed, so a run with a random seed can be replayed exactly.
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        String override = System.getProperty(SEED_OVERRIDE);
+        long seed = override == null ? source.seed() : Long.parseLong(override.trim());
+        PostPayloadGenerator generator = new PostPayloadGenerator(seed, source.edgeCaseRatio());
+        return LongStream.range(0, source.count()).mapToObj(generator::caseAt).map(Arguments::of);
+    }
+}
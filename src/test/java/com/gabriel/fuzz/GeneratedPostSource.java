@@ -0,0 +1,22 @@
+package com.gabriel.fuzz;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(GeneratedPostArgumentsProvider.class)
+public @interface GeneratedPostSource {
+
+    int count() default 100;
+
+    long seed() default 42;
+
+    double edgeCaseRatio() default 0.2;
+}
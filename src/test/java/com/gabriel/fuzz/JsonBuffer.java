@@ -0,0 +1,124 @@
+package com.gabriel.fuzz;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Growable byte buffer that callers keep across cases; after the first few large payloads it stops allocating.
+public final class JsonBuffer {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_INT = String.valueOf(Integer.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int length;
+
+    public JsonBuffer() {
+        this(1024);
+    }
+
+    public JsonBuffer(int initialCapacity) {
+        bytes = new byte[initialCapacity];
+    }
+
+    public void reset() {
+        length = 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public byte[] array() {
+        return bytes;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    void write(byte value) {
+        ensureCapacity(1);
+        bytes[length++] = value;
+    }
+
+    void write(byte[] values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, bytes, length, values.length);
+        length += values.length;
+    }
+
+    void writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            write(MIN_INT);
+            return;
+        }
+        ensureCapacity(11);
+        if (value < 0) {
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int position = length + digits - 1; position >= length; position--) {
+            bytes[position] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    // Writes one code point as it must appear inside a JSON string: escaped when JSON requires it, UTF-8 otherwise.
+    void writeStringCodePoint(int codePoint) {
+        ensureCapacity(6);
+        switch (codePoint) {
+            case '"' -> writeEscape('"');
+            case '\\' -> writeEscape('\\');
+            case '\n' -> writeEscape('n');
+            case '\r' -> writeEscape('r');
+            case '\t' -> writeEscape('t');
+            case '\b' -> writeEscape('b');
+            case '\f' -> writeEscape('f');
+            default -> {
+                if (codePoint < 0x20) {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 'u';
+                    bytes[length++] = '0';
+                    bytes[length++] = '0';
+                    bytes[length++] = HEX[codePoint >> 4];
+                    bytes[length++] = HEX[codePoint & 0xF];
+                } else if (codePoint < 0x80) {
+                    bytes[length++] = (byte) codePoint;
+                } else if (codePoint < 0x800) {
+                    bytes[length++] = (byte) (0xC0 | codePoint >> 6);
+                    bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (codePoint < 0x10000) {
+                    bytes[length++] = (byte) (0xE0 | codePoint >> 12);
+                    bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+                } else {
+                    bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+                    bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+                }
+            }
+        }
+    }
+
+    private void writeEscape(char escaped) {
+        bytes[length++] = '\\';
+        bytes[length++] = (byte) escaped;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
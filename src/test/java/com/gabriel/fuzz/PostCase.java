@@ -0,0 +1,86 @@
+package com.gabriel.fuzz;
+
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PostPayload;
+
+import java.util.Locale;
+
+public record PostCase(long seed, long index, boolean edgeCase, int fields, TextKind titleKind, int titleLength,
+                       TextKind bodyKind, int bodyLength, int userId) {
+
+    public static final int TITLE = 1;
+    public static final int BODY = 2;
+    public static final int USER_ID = 4;
+    public static final int ALL_FIELDS = TITLE | BODY | USER_ID;
+
+    public boolean has(int field) {
+        return (fields & field) != 0;
+    }
+
+    public boolean complete() {
+        return fields == ALL_FIELDS;
+    }
+
+    public String title() {
+        return has(TITLE) ? PostText.toString(titleKind, textSeed(TITLE), titleLength) : null;
+    }
+
+    public String body() {
+        return has(BODY) ? PostText.toString(bodyKind, textSeed(BODY), bodyLength) : null;
+    }
+
+    public CreatePostPayload toCreatePayload() {
+        if (!complete()) {
+            throw new IllegalStateException("Caso " + describe() + " não tem todos os campos do payload de criação.");
+        }
+        return PostPayload.create(title(), body(), userId);
+    }
+
+    public byte[] toJson() {
+        JsonBuffer buffer = new JsonBuffer(Math.max(64, titleLength * 4 + bodyLength * 4 + 64));
+        PostPayloadGenerator.writeCreateJson(this, buffer);
+        return buffer.toByteArray();
+    }
+
+    public PostCase withFields(int fields) {
+        return new PostCase(seed, index, edgeCase, fields, titleKind, titleLength, bodyKind, bodyLength, userId);
+    }
+
+    public PostCase withTitle(TextKind kind, int length) {
+        return new PostCase(seed, index, edgeCase, fields, kind, length, bodyKind, bodyLength, userId);
+    }
+
+    public PostCase withBody(TextKind kind, int length) {
+        return new PostCase(seed, index, edgeCase, fields, titleKind, titleLength, kind, length, userId);
+    }
+
+    public PostCase withUserId(int userId) {
+        return new PostCase(seed, index, edgeCase, fields, titleKind, titleLength, bodyKind, bodyLength, userId);
+    }
+
+    // Everything needed to rebuild the exact payload: paste the values back into the constructor.
+    public String describe() {
+        return String.format(Locale.ROOT,
+                "PostCase(seed=%d, index=%d, fields=%s, title=%s/%d, body=%s/%d, userId=%s)",
+                seed, index, fieldNames(), titleKind, titleLength, bodyKind, bodyLength,
+                has(USER_ID) ? String.valueOf(userId) : "-");
+    }
+
+    long textSeed(int field) {
+        return PostText.mix(seed ^ (index * PostText.gamma()) ^ ((long) field << 32));
+    }
+
+    private String fieldNames() {
+        StringBuilder names = new StringBuilder();
+        if (has(TITLE)) {
+            names.append("title");
+        }
+        if (has(BODY)) {
+            names.append(names.isEmpty() ? "" : "+").append("body");
+        }
+        if (has(USER_ID)) {
+            names.append(names.isEmpty() ? "" : "+").append("userId");
+        }
+        return names.isEmpty() ? "nenhum" : names.toString();
+    }
+}
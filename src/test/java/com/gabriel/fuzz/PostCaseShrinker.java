@@ -0,0 +1,103 @@
+package com.gabriel.fuzz;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+public final class PostCaseShrinker {
+
+    private static final int MAX_ATTEMPTS = 10_000;
+    private static final int JSON_PREVIEW_BYTES = 300;
+
+    private PostCaseShrinker() {
+    }
+
+    public record Result(PostCase original, PostCase minimal, int steps, int attempts) {
+
+        public String format() {
+            byte[] json = minimal.toJson();
+            String preview = new String(json, 0, Math.min(json.length, JSON_PREVIEW_BYTES), StandardCharsets.UTF_8);
+            return String.format(Locale.ROOT, "Propriedade falhou.%ncaso original: %s%nreprodutor mínimo (%d passos, "
+                            + "%d tentativas): %s%nJSON: %s%s",
+                    original.describe(), steps, attempts, minimal.describe(), preview,
+                    json.length > JSON_PREVIEW_BYTES ? "... (" + json.length + " bytes)" : "");
+        }
+    }
+
+    // Greedy shrinking: take the first simpler candidate that still fails and start over from it, until no
+    // candidate fails. Every candidate is strictly simpler, so this terminates even without the attempt cap.
+    public static Result shrink(PostCase failing, Predicate<PostCase> property) {
+        if (holds(property, failing)) {
+            throw new IllegalArgumentException("Caso " + failing.describe() + " não falha a propriedade.");
+        }
+        PostCase current = failing;
+        int steps = 0;
+        int attempts = 0;
+        boolean improved = true;
+        while (improved && attempts < MAX_ATTEMPTS) {
+            improved = false;
+            for (PostCase candidate : candidates(current)) {
+                attempts++;
+                if (!holds(property, candidate)) {
+                    current = candidate;
+                    steps++;
+                    improved = true;
+                    break;
+                }
+            }
+        }
+        return new Result(failing, current, steps, attempts);
+    }
+
+    static boolean holds(Predicate<PostCase> property, PostCase post) {
+        try {
+            return property.test(post);
+        } catch (AssertionError | RuntimeException error) {
+            return false;
+        }
+    }
+
+    private static List<PostCase> candidates(PostCase post) {
+        List<PostCase> candidates = new ArrayList<>();
+        for (int field : new int[]{PostCase.BODY, PostCase.TITLE, PostCase.USER_ID}) {
+            if (post.has(field)) {
+                candidates.add(post.withFields(post.fields() & ~field));
+            }
+        }
+        addShorter(candidates, post.bodyLength(), length -> post.withBody(post.bodyKind(), length));
+        addShorter(candidates, post.titleLength(), length -> post.withTitle(post.titleKind(), length));
+        if (post.bodyKind() != TextKind.ASCII) {
+            candidates.add(post.withBody(TextKind.ASCII, post.bodyLength()));
+        }
+        if (post.titleKind() != TextKind.ASCII) {
+            candidates.add(post.withTitle(TextKind.ASCII, post.titleLength()));
+        }
+        int userId = post.userId();
+        if (userId != 1 && userId != 0) {
+            candidates.add(post.withUserId(1));
+            candidates.add(post.withUserId(0));
+            if (userId / 2 != 0) {
+                candidates.add(post.withUserId(userId / 2));
+            }
+        } else if (userId == 0) {
+            candidates.add(post.withUserId(1));
+        }
+        return candidates;
+    }
+
+    private static void addShorter(List<PostCase> candidates, int length, IntFunction<PostCase> withLength) {
+        if (length == 0) {
+            return;
+        }
+        candidates.add(withLength.apply(0));
+        if (length / 2 > 0) {
+            candidates.add(withLength.apply(length / 2));
+        }
+        if (length - 1 > length / 2) {
+            candidates.add(withLength.apply(length - 1));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gabriel.fuzz;
+
+import com.gabriel.config.TestConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+public final class PostPayloadGenerator {
+
+    public static final int HUGE_BODY_LENGTH = 1 << 20;
+
+    private static final int[] BOUNDARY_USER_IDS = {0, 1, 10, 11, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    private static final int MUTATIONS = 9;
+    private static final byte[] TITLE_FIELD = "\"title\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BODY_FIELD = "\"body\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] USER_ID_FIELD = "\"userId\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID_FIELD = "\"id\":".getBytes(StandardCharsets.US_ASCII);
+
+    private final long seed;
+    private final double edgeCaseRatio;
+
+    public PostPayloadGenerator(long seed, double edgeCaseRatio) {
+        if (edgeCaseRatio < 0 || edgeCaseRatio > 1) {
+            throw new IllegalArgumentException("Proporção de casos de borda deve estar entre 0 e 1: " + edgeCaseRatio);
+        }
+        this.seed = seed;
+        this.edgeCaseRatio = edgeCaseRatio;
+    }
+
+    public static PostPayloadGenerator fromConfig() {
+        return new PostPayloadGenerator(TestConfig.getPayloadGeneratorSeed(), TestConfig.getPayloadEdgeCaseRatio());
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    // A case is a pure function of (seed, index): no shared state, so any thread can generate any case and a
+    // failure is reproduced from its index alone.
+    public PostCase caseAt(long index) {
+        long state = seed ^ (index * PostText.gamma());
+        long shape = PostText.mix(state += PostText.gamma());
+        long sizes = PostText.mix(state += PostText.gamma());
+
+        int titleLength = 5 + (int) Long.remainderUnsigned(sizes, 56);
+        int bodyLength = 20 + (int) Long.remainderUnsigned(sizes >>> 16, 381);
+        int userId = 1 + (int) Long.remainderUnsigned(sizes >>> 32, 10);
+        boolean edgeCase = (shape >>> 11) * 0x1.0p-53 < edgeCaseRatio;
+        PostCase post = new PostCase(seed, index, edgeCase, PostCase.ALL_FIELDS, TextKind.ASCII, titleLength,
+                TextKind.ASCII, bodyLength, userId);
+        if (!edgeCase) {
+            return post;
+        }
+
+        int mutations = 1 + (int) (shape & 1);
+        for (int mutation = 0; mutation < mutations; mutation++) {
+            post = mutate(post, PostText.mix(state += PostText.gamma()));
+        }
+        return post;
+    }
+
+    public void writeCreateJson(long index, JsonBuffer buffer) {
+        writeCreateJson(caseAt(index), buffer);
+    }
+
+    public static void writeCreateJson(PostCase post, JsonBuffer buffer) {
+        buffer.write((byte) '{');
+        writeFields(post, buffer, false);
+        buffer.write((byte) '}');
+    }
+
+    public static void writeUpdateJson(PostCase post, int id, JsonBuffer buffer) {
+        buffer.write((byte) '{');
+        buffer.write(ID_FIELD);
+        buffer.writeInt(id);
+        writeFields(post, buffer, true);
+        buffer.write((byte) '}');
+    }
+
+    // Checks the property for the first count cases and, on the first failure, shrinks it before reporting.
+    public void forAll(long count, Predicate<PostCase> property) {
+        for (long index = 0; index < count; index++) {
+            PostCase post = caseAt(index);
+            if (!PostCaseShrinker.holds(property, post)) {
+                throw new AssertionError(PostCaseShrinker.shrink(post, property).format());
+            }
+        }
+    }
+
+    private static PostCase mutate(PostCase post, long random) {
+        int choice = (int) Long.remainderUnsigned(random, MUTATIONS);
+        long detail = random >>> 32;
+        return switch (choice) {
+            case 0 -> post.withTitle(TextKind.UNICODE, post.titleLength());
+            case 1 -> post.withBody(TextKind.UNICODE, post.bodyLength());
+            case 2 -> post.withTitle(TextKind.ESCAPES, post.titleLength());
+            case 3 -> post.withBody(TextKind.ESCAPES, post.bodyLength());
+            case 4 -> post.withTitle(post.titleKind(), 0);
+            case 5 -> post.withBody(TextKind.WHITESPACE, post.bodyLength());
+            case 6 -> post.withBody(post.bodyKind(), HUGE_BODY_LENGTH);
+            case 7 -> post.withUserId(BOUNDARY_USER_IDS[(int) (detail % BOUNDARY_USER_IDS.length)]);
+            default -> post.withFields(post.fields() & ~(1 << (int) (detail % 3)));
+        };
+    }
+
+    private static void writeFields(PostCase post, JsonBuffer buffer, boolean separatorBefore) {
+        boolean separator = separatorBefore;
+        if (post.has(PostCase.TITLE)) {
+            separator = writeSeparator(buffer, separator);
+            buffer.write(TITLE_FIELD);
+            PostText.write(buffer, post.titleKind(), post.textSeed(PostCase.TITLE), post.titleLength());
+            buffer.write((byte) '"');
+        }
+        if (post.has(PostCase.BODY)) {
+            separator = writeSeparator(buffer, separator);
+            buffer.write(BODY_FIELD);
+            PostText.write(buffer, post.bodyKind(), post.textSeed(PostCase.BODY), post.bodyLength());
+            buffer.write((byte) '"');
+        }
+        if (post.has(PostCase.USER_ID)) {
+            writeSeparator(buffer, separator);
+            buffer.write(USER_ID_FIELD);
+            buffer.writeInt(post.userId());
+        }
+    }
+
+    private static boolean writeSeparator(JsonBuffer buffer, boolean separator) {
+        if (separator) {
+            buffer.write((byte) ',');
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.gabriel.fuzz;
+
+import java.nio.charset.StandardCharsets;
+
+final class PostText {
+
+    private static final byte[] ALPHABET =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHARS_PER_CHUNK = 10;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private PostText() {
+    }
+
+    // Character i depends only on (textSeed, i), so shortening a text while shrinking keeps its prefix intact.
+    static void write(JsonBuffer buffer, TextKind kind, long textSeed, int length) {
+        if (kind == TextKind.ASCII) {
+            long chunk = 0;
+            for (int position = 0; position < length; position++) {
+                int offset = position % CHARS_PER_CHUNK;
+                if (offset == 0) {
+                    chunk = mix(textSeed + position / CHARS_PER_CHUNK * GOLDEN_GAMMA);
+                }
+                buffer.write(ALPHABET[(int) (chunk >>> (offset * 6)) & 63]);
+            }
+            return;
+        }
+        for (int position = 0; position < length; position++) {
+            buffer.writeStringCodePoint(kind.codePoint(mix(textSeed + position * GOLDEN_GAMMA)));
+        }
+    }
+
+    static String toString(TextKind kind, long textSeed, int length) {
+        StringBuilder text = new StringBuilder(length);
+        if (kind == TextKind.ASCII) {
+            long chunk = 0;
+            for (int position = 0; position < length; position++) {
+                int offset = position % CHARS_PER_CHUNK;
+                if (offset == 0) {
+                    chunk = mix(textSeed + position / CHARS_PER_CHUNK * GOLDEN_GAMMA);
+                }
+                text.append((char) ALPHABET[(int) (chunk >>> (offset * 6)) & 63]);
+            }
+            return text.toString();
+        }
+        for (int position = 0; position < length; position++) {
+            text.appendCodePoint(kind.codePoint(mix(textSeed + position * GOLDEN_GAMMA)));
+        }
+        return text.toString();
+    }
+
+    // SplitMix64 finalizer: cheap, stateless and good enough to make neighbouring seeds look unrelated.
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    static long gamma() {
+        return GOLDEN_GAMMA;
+    }
+}
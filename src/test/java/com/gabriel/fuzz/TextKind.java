@@ -0,0 +1,22 @@
+package com.gabriel.fuzz;
+
+public enum TextKind {
+
+    ASCII(new int[0]),
+    UNICODE(new int[]{
+            'ã', 'é', 'ç', 'ü', 'ß', 'Ω', 'Ж', 'ش', 0x05D0, '中', '文', '日', '本',
+            0x0301, 0x200D, 0xFEFF, 0x1F642, 0x1F680, 0x1D11E, 0x10FFFF}),
+    ESCAPES(new int[]{
+            '"', '\\', '/', '\n', '\r', '\t', '\b', '\f', 0x00, 0x1F, 0x7F, 0x2028, 0x2029, '<', '>', '&', '\''}),
+    WHITESPACE(new int[]{' ', '\t', '\n', 0x00A0, 0x2003, 0x3000});
+
+    private final int[] codePoints;
+
+    TextKind(int[] codePoints) {
+        this.codePoints = codePoints;
+    }
+
+    int codePoint(long random) {
+        return codePoints[(int) Long.remainderUnsigned(random, codePoints.length)];
+    }
+}
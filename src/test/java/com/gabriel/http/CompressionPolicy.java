@@ -0,0 +1,21 @@
+package com.gabriel.http;
+
+import com.gabriel.config.TestConfig;
+
+public record CompressionPolicy(boolean enabled, int requestMinBytes) {
+
+    public static final CompressionPolicy DISABLED = new CompressionPolicy(false, Integer.MAX_VALUE);
+
+    public CompressionPolicy {
+        if (requestMinBytes < 0) {
+            throw new IllegalArgumentException("Tamanho mínimo para comprimir não pode ser negativo: "
+                    + requestMinBytes);
+        }
+    }
+
+    public static CompressionPolicy fromConfig() {
+        return TestConfig.isHttpCompressionEnabled()
+                ? new CompressionPolicy(true, TestConfig.getHttpCompressionRequestMinBytes())
+                : DISABLED;
+    }
+}
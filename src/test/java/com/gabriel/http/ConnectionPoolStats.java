@@ -0,0 +1,4 @@
+package com.gabriel.http;
+
+public record ConnectionPoolStats(int leased, int available, int pending, int max, long created) {
+}
@@ -0,0 +1,86 @@
+package com.gabriel.http;
+
+public final class ExchangeTimings {
+
+    private static final ThreadLocal<ExchangeTimings> CURRENT = ThreadLocal.withInitial(ExchangeTimings::new);
+
+    private long connectNanos;
+    private long firstByteAt;
+    private long requestWireBytes;
+    private long responseBytes;
+    private long responseWireBytes;
+    private long compressionNanos;
+    private boolean servedLocally;
+
+    private ExchangeTimings() {
+    }
+
+    public static ExchangeTimings current() {
+        return CURRENT.get();
+    }
+
+    public void reset() {
+        connectNanos = 0;
+        firstByteAt = 0;
+        requestWireBytes = 0;
+        responseBytes = 0;
+        responseWireBytes = 0;
+        compressionNanos = 0;
+        servedLocally = false;
+    }
+
+    public long connectNanos() {
+        return connectNanos;
+    }
+
+    public long firstByteAt() {
+        return firstByteAt;
+    }
+
+    public long requestWireBytes() {
+        return requestWireBytes;
+    }
+
+    public long responseBytes() {
+        return responseBytes;
+    }
+
+    public long responseWireBytes() {
+        return responseWireBytes;
+    }
+
+    public long compressionNanos() {
+        return compressionNanos;
+    }
+
+    // Set by filters that answer without touching the network (fresh cache hit, replay), so their ~0 ms responses
+    // stay out of the latency metrics.
+    public void markServedLocally() {
+        servedLocally = true;
+    }
+
+    public boolean servedLocally() {
+        return servedLocally;
+    }
+
+    void addConnect(long nanos) {
+        connectNanos += nanos;
+    }
+
+    void markFirstByte(long at) {
+        firstByteAt = at;
+    }
+
+    void addRequestWireBytes(long bytes) {
+        requestWireBytes += bytes;
+    }
+
+    void addResponseBytes(long wireBytes, long decodedBytes) {
+        responseWireBytes += wireBytes;
+        responseBytes += decodedBytes;
+    }
+
+    void addCompression(long nanos) {
+        compressionNanos += nanos;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gabriel.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class HttpCompression {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+    public static final String ACCEPT_ENCODING = GZIP + ", " + DEFLATE;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private HttpCompression() {
+    }
+
+    public static boolean isSupported(String encoding) {
+        return encoding != null && switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP, "x-gzip", DEFLATE -> true;
+            default -> false;
+        };
+    }
+
+    // First supported coding in the client's order, skipping the ones it refused with q=0.
+    public static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean refused = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            if (!refused && (GZIP.equals(coding) || DEFLATE.equals(coding))) {
+                return coding;
+            }
+        }
+        return null;
+    }
+
+    public static byte[] encode(String encoding, byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream output = isGzip(encoding) ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            output.write(body);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao comprimir corpo com " + encoding + ".", error);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static byte[] decode(String encoding, byte[] body) {
+        try (InputStream input = isGzip(encoding)
+                ? new GZIPInputStream(new ByteArrayInputStream(body))
+                : new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Corpo com " + encoding + " inválido.", error);
+        }
+    }
+
+    // Virtual threads report no CPU time (-1), so calls made from them fall back to wall-clock time.
+    public static long cpuTimeNanos() {
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        return cpu >= 0 ? cpu : System.nanoTime();
+    }
+
+    private static boolean isGzip(String encoding) {
+        String coding = encoding.trim().toLowerCase(Locale.ROOT);
+        return GZIP.equals(coding) || "x-gzip".equals(coding);
+    }
+}
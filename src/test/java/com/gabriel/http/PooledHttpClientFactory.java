@@ -0,0 +1,223 @@
+package com.gabriel.http;
+
+import com.gabriel.config.TestConfig;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// RestAssured 5 is built on HttpClient 4's deprecated DefaultHttpClient/params API, so there is no non-deprecated
+// way to hand it a pooled client.
+@SuppressWarnings("deprecation")
+public final class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private static final PooledHttpClientFactory SHARED = new PooledHttpClientFactory();
+    private static final HttpRequestInterceptor COUNT_REQUEST_BODY = (request, context) -> {
+        if (request instanceof HttpEntityEnclosingRequest enclosing && enclosing.getEntity() != null
+                && enclosing.getEntity().getContentLength() > 0) {
+            ExchangeTimings.current().addRequestWireBytes(enclosing.getEntity().getContentLength());
+        }
+    };
+    // Decoding here rather than in RestAssured keeps wire and decoded sizes, and the inflate time, on one exchange.
+    private static final HttpResponseInterceptor BUFFER_ENTITY = (response, context) -> {
+        ExchangeTimings timings = ExchangeTimings.current();
+        timings.markFirstByte(System.nanoTime());
+        HttpEntity entity = response.getEntity();
+        Header encoding = response.getFirstHeader(HTTP.CONTENT_ENCODING);
+        if (entity != null && encoding != null && HttpCompression.isSupported(encoding.getValue())) {
+            byte[] wire = EntityUtils.toByteArray(entity);
+            long started = HttpCompression.cpuTimeNanos();
+            byte[] decoded = HttpCompression.decode(encoding.getValue(), wire);
+            timings.addCompression(HttpCompression.cpuTimeNanos() - started);
+            ByteArrayEntity plain = new ByteArrayEntity(decoded);
+            plain.setContentType(entity.getContentType());
+            response.setEntity(plain);
+            response.removeHeaders(HTTP.CONTENT_ENCODING);
+            response.removeHeaders(HTTP.CONTENT_LEN);
+            timings.addResponseBytes(wire.length, decoded.length);
+        } else if (entity != null && entity.isStreaming()) {
+            BufferedHttpEntity buffered = new BufferedHttpEntity(entity);
+            response.setEntity(buffered);
+            timings.addResponseBytes(buffered.getContentLength(), buffered.getContentLength());
+        } else if (entity != null && entity.getContentLength() > 0) {
+            timings.addResponseBytes(entity.getContentLength(), entity.getContentLength());
+        }
+    };
+
+    private final LongAdder createdConnections = new LongAdder();
+    private final PoolingClientConnectionManager connectionManager;
+    private final Semaphore leases;
+    private final Map<HttpHost, Semaphore> routeLeases = new ConcurrentHashMap<>();
+    private final RestAssuredConfig restAssuredConfig;
+    private final Map<List<Integer>, RestAssuredConfig> timeoutConfigs = new ConcurrentHashMap<>();
+
+    public PooledHttpClientFactory() {
+        connectionManager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(),
+                TestConfig.getHttpPoolConnectionTtlMillis(),
+                TimeUnit.MILLISECONDS) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new CountingConnectionOperator(schemeRegistry);
+            }
+        };
+        connectionManager.setMaxTotal(TestConfig.getHttpPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(TestConfig.getHttpPoolMaxPerRoute());
+        leases = new Semaphore(TestConfig.getHttpPoolMaxTotal(), true);
+        restAssuredConfig = RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(this))
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+    }
+
+    public static PooledHttpClientFactory shared() {
+        return SHARED;
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        DefaultHttpClient client = new LeaseGatedHttpClient();
+        HttpParams params = client.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, TestConfig.getHttpConnectTimeoutMillis());
+        HttpConnectionParams.setSoTimeout(params, TestConfig.getHttpSocketTimeoutMillis());
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, TestConfig.getHttpPoolLeaseTimeoutMillis());
+        long keepAliveMillis = TestConfig.getHttpKeepAliveMillis();
+        client.setKeepAliveStrategy((response, context) -> keepAliveMillis);
+        client.addRequestInterceptor(COUNT_REQUEST_BODY);
+        client.addResponseInterceptor(BUFFER_ENTITY);
+        return client;
+    }
+
+    public RestAssuredConfig restAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    public RestAssuredConfig restAssuredConfig(RoutePolicy policy) {
+        if (policy.connectTimeoutMillis() == TestConfig.getHttpConnectTimeoutMillis()
+                && policy.readTimeoutMillis() == TestConfig.getHttpSocketTimeoutMillis()) {
+            return restAssuredConfig;
+        }
+        return timeoutConfigs.computeIfAbsent(List.of(policy.connectTimeoutMillis(), policy.readTimeoutMillis()),
+                timeouts -> restAssuredConfig.httpClient(restAssuredConfig.getHttpClientConfig()
+                        .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, timeouts.get(0))
+                        .setParam(CoreConnectionPNames.SO_TIMEOUT, timeouts.get(1))));
+    }
+
+    public ConnectionPoolStats stats() {
+        PoolStats totals = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(
+                totals.getLeased(),
+                totals.getAvailable(),
+                leases.getQueueLength() + routeLeases.values().stream().mapToInt(Semaphore::getQueueLength).sum(),
+                totals.getMax(),
+                createdConnections.sum());
+    }
+
+    public void closeIdleConnections() {
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+    }
+
+    // httpcore 4.4 waits for pool entries inside a synchronized block, which pins virtual threads to their
+    // carrier; callers park on these semaphores instead (one per route sized like the route limit, then one for the
+    // whole pool) so a lease is always available once they reach the pool.
+    private final class LeaseGatedHttpClient extends DefaultHttpClient {
+
+        private LeaseGatedHttpClient() {
+            super(connectionManager);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+            HttpHost target = URIUtils.extractHost(request.getURI());
+            Semaphore route = target == null ? null : routeLeases.computeIfAbsent(target,
+                    ignored -> new Semaphore(connectionManager.getMaxPerRoute(new HttpRoute(target)), true));
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TestConfig.getHttpPoolLeaseTimeoutMillis());
+            acquire(route, deadline);
+            try {
+                acquire(leases, deadline);
+            } catch (IOException error) {
+                release(route);
+                throw error;
+            }
+            try {
+                return super.execute(request, context);
+            } finally {
+                leases.release();
+                release(route);
+            }
+        }
+
+        private static void acquire(Semaphore semaphore, long deadline) throws IOException {
+            if (semaphore == null) {
+                return;
+            }
+            try {
+                if (!semaphore.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new ConnectionPoolTimeoutException("Tempo esgotado aguardando conexão do pool.");
+                }
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrompido aguardando conexão do pool.");
+            }
+        }
+
+        private static void release(Semaphore semaphore) {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+    }
+
+    private final class CountingConnectionOperator extends DefaultClientConnectionOperator {
+
+        private CountingConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            long started = System.nanoTime();
+            super.openConnection(connection, target, local, context, params);
+            ExchangeTimings.current().addConnect(System.nanoTime() - started);
+            createdConnections.increment();
+        }
+    }
+}
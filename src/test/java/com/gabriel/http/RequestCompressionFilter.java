@@ -0,0 +1,49 @@
+package com.gabriel.http;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+public final class RequestCompressionFilter implements OrderedFilter {
+
+    private final int minBytes;
+
+    public RequestCompressionFilter(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        byte[] body = bodyBytes(requestSpec.getBody());
+        if (body != null && body.length >= minBytes
+                && !requestSpec.getHeaders().hasHeaderWithName("Content-Encoding")) {
+            long started = HttpCompression.cpuTimeNanos();
+            byte[] compressed = HttpCompression.encode(HttpCompression.GZIP, body);
+            ExchangeTimings.current().addCompression(HttpCompression.cpuTimeNanos() - started);
+            requestSpec.body(compressed);
+            requestSpec.header("Content-Encoding", HttpCompression.GZIP);
+        }
+        return context.next(requestSpec, responseSpec);
+    }
+
+    // Last in the chain, so metrics, replay and the response cache all see the uncompressed body.
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+}
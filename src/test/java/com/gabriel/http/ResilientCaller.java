@@ -0,0 +1,203 @@
+package com.gabriel.http;
+
+import com.gabriel.logging.TestLog;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.RequestMetrics;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class ResilientCaller {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final Executor HEDGE_EXECUTOR = runnable -> Thread.ofVirtual().name("posts-hedge").start(runnable);
+    private static final ResilientCaller SHARED = new ResilientCaller(RequestMetrics.shared(), RoutePolicy::forRoute);
+
+    private final RequestMetrics metrics;
+    private final Function<String, RoutePolicy> policies;
+    private final Map<String, RoutePolicy> resolvedPolicies = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public ResilientCaller(RequestMetrics metrics, Function<String, RoutePolicy> policies) {
+        this.metrics = metrics;
+        this.policies = policies;
+    }
+
+    public static ResilientCaller shared() {
+        return SHARED;
+    }
+
+    public RoutePolicy policyFor(String route) {
+        return resolvedPolicies.computeIfAbsent(route, policies);
+    }
+
+    public Response call(String route, Supplier<Response> attempt) {
+        RoutePolicy policy = policyFor(route);
+        Counters routeCounters = counters.computeIfAbsent(route, key -> new Counters());
+        routeCounters.calls.increment();
+        int retriesLeft = IDEMPOTENT_METHODS.contains(route.substring(0, route.indexOf(' '))) ? policy.maxRetries() : 0;
+        boolean hedge = policy.hedgeEnabled() && route.startsWith("GET ");
+
+        for (int retry = 0; ; retry++) {
+            String reason;
+            try {
+                Response response = hedge ? hedged(route, policy, routeCounters, attempt) : attempt.get();
+                if (retry >= retriesLeft || !isRetryable(response.statusCode())) {
+                    return response;
+                }
+                reason = "status " + response.statusCode();
+            } catch (Exception error) {
+                UncheckedIOException ioError = asIoError(error);
+                if (ioError.getCause() instanceof SocketTimeoutException) {
+                    routeCounters.timeouts.increment();
+                }
+                if (retry >= retriesLeft) {
+                    throw ioError;
+                }
+                reason = String.valueOf(ioError.getCause());
+            }
+            int attemptNumber = retry + 1;
+            String cause = reason;
+            TestLog.info(() -> "Retry " + attemptNumber + "/" + retriesLeft + " de " + route + " após " + cause);
+            routeCounters.retries.increment();
+            backoff(policy, retry);
+        }
+    }
+
+    public long hedgeDelayMillis(String route, RoutePolicy policy) {
+        return metrics.snapshot(route)
+                .filter(snapshot -> snapshot.count() >= policy.hedgeMinSamples())
+                .map(EndpointSnapshot::latency)
+                .map(latency -> Math.max((long) Math.ceil(latency.p95()), policy.hedgeMinDelayMillis()))
+                .orElse(policy.hedgeMinDelayMillis());
+    }
+
+    public List<RouteCallStats> stats() {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(RouteCallStats::route))
+                .toList();
+    }
+
+    public RouteCallStats stats(String route) {
+        Counters routeCounters = counters.get(route);
+        return routeCounters == null ? new RouteCallStats(route, 0, 0, 0, 0, 0) : routeCounters.snapshot(route);
+    }
+
+    public void reset() {
+        counters.clear();
+        resolvedPolicies.clear();
+    }
+
+    // The losing leg is left to finish on its own: interrupting it would close a pooled connection and show up
+    // as a failed request in the metrics.
+    private Response hedged(String route, RoutePolicy policy, Counters routeCounters, Supplier<Response> attempt)
+            throws Exception {
+        Supplier<Response> propagated = TestLog.propagate(RequestMetrics.propagateScope(attempt));
+        CompletableFuture<Response> primary = CompletableFuture.supplyAsync(propagated, HEDGE_EXECUTOR);
+        try {
+            return primary.get(hedgeDelayMillis(route, policy), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException slow) {
+            routeCounters.hedgesFired.increment();
+        } catch (ExecutionException error) {
+            throw unwrap(error.getCause());
+        }
+
+        CompletableFuture<Response> secondary = CompletableFuture.supplyAsync(propagated, HEDGE_EXECUTOR);
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> settle(winner, failures, response, error));
+        secondary.whenComplete((response, error) -> settle(winner, failures, response, error));
+        try {
+            Response response = winner.get();
+            if (secondary.isDone() && !secondary.isCompletedExceptionally() && secondary.join() == response) {
+                routeCounters.hedgesWon.increment();
+            }
+            return response;
+        } catch (ExecutionException error) {
+            throw unwrap(error.getCause());
+        }
+    }
+
+    private static void settle(CompletableFuture<Response> winner, AtomicInteger failures, Response response,
+                               Throwable error) {
+        if (error == null) {
+            winner.complete(response);
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        }
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private static Exception unwrap(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return (Exception) cause;
+    }
+
+    // RestAssured rethrows the HttpClient IOException unchecked; it is wrapped here so callers see one type.
+    private static UncheckedIOException asIoError(Exception error) {
+        if (error instanceof UncheckedIOException ioError) {
+            return ioError;
+        }
+        if (error instanceof IOException ioError) {
+            return new UncheckedIOException("Falha de I/O na requisição: " + ioError.getMessage(), ioError);
+        }
+        if (error instanceof RuntimeException runtimeError) {
+            throw runtimeError;
+        }
+        throw new IllegalStateException("Falha inesperada na requisição.", error);
+    }
+
+    // Full jitter: a random wait between zero and the exponential ceiling keeps retrying clients from syncing up.
+    private static void backoff(RoutePolicy policy, int retry) {
+        long ceiling = Math.min(policy.maxBackoffMillis(), policy.backoffMillis() << Math.min(retry, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrompido aguardando novo retry."));
+        }
+    }
+
+    private static final class Counters {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder hedgesFired = new LongAdder();
+        private final LongAdder hedgesWon = new LongAdder();
+
+        private RouteCallStats snapshot(String route) {
+            return new RouteCallStats(route, calls.sum(), retries.sum(), timeouts.sum(), hedgesFired.sum(),
+                    hedgesWon.sum());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.gabriel.http;
+
+import com.gabriel.config.TestConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Headers;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ResponseCache {
+
+    private static final ResponseCache SHARED = new ResponseCache(
+            TimeUnit.MILLISECONDS.toNanos(TestConfig.getHttpCacheTtlMillis()),
+            TestConfig.getHttpCacheMaxEntries());
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final Filter filter = new ResponseCacheFilter(this);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder nanosSaved = new LongAdder();
+
+    public ResponseCache(long ttlNanos, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Tamanho do cache deve ser positivo: " + maxEntries);
+        }
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > ResponseCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public static ResponseCache shared() {
+        return SHARED;
+    }
+
+    public Filter filter() {
+        return filter;
+    }
+
+    public ResponseCacheStats stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new ResponseCacheStats(hits.sum(), misses.sum(), revalidations.sum(), invalidations.sum(),
+                evictions.sum(), bytesSaved.sum(), nanosSaved.sum() / 1_000_000.0, size);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void store(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    synchronized void invalidate(String method, URI uri) {
+        String path = normalize(uri.getPath());
+        boolean includeChildren = !"POST".equals(method);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            String cachedPath = iterator.next().path();
+            if (isWithin(path, cachedPath) || includeChildren && isWithin(cachedPath, path)) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    boolean isFresh(Entry entry, long now) {
+        return now - entry.storedAt() < ttlNanos;
+    }
+
+    void recordHit(Entry entry) {
+        hits.increment();
+        bytesSaved.add(entry.body().length);
+        nanosSaved.add(entry.fetchNanos());
+    }
+
+    void recordRevalidation(Entry entry, long revalidationNanos) {
+        revalidations.increment();
+        bytesSaved.add(entry.body().length);
+        nanosSaved.add(Math.max(entry.fetchNanos() - revalidationNanos, 0));
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    static String key(URI uri) {
+        String authority = uri.getScheme() + "://" + uri.getRawAuthority();
+        String query = uri.getRawQuery();
+        return authority + normalize(uri.getRawPath()) + (query == null ? "" : "?" + query);
+    }
+
+    static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static boolean isWithin(String path, String parent) {
+        return path.equals(parent) || parent.equals("/") || path.startsWith(parent + "/");
+    }
+
+    record Entry(String path, int statusCode, Headers headers, String contentType, byte[] body, String etag,
+                 long storedAt, long fetchNanos) {
+
+        Entry refreshed(long now) {
+            return new Entry(path, statusCode, headers, contentType, body, etag, now, fetchNanos);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.gabriel.http;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+final class ResponseCacheFilter implements OrderedFilter {
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final ResponseCache cache;
+
+    ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        URI uri = URI.create(requestSpec.getURI());
+        if (!"GET".equals(requestSpec.getMethod())) {
+            // A write that times out or fails may still have been applied by the server, so invalidate either way.
+            try {
+                return context.next(requestSpec, responseSpec);
+            } finally {
+                if (!"HEAD".equals(requestSpec.getMethod()) && !"OPTIONS".equals(requestSpec.getMethod())) {
+                    cache.invalidate(requestSpec.getMethod(), uri);
+                }
+            }
+        }
+
+        String key = ResponseCache.key(uri);
+        ResponseCache.Entry cached = cache.lookup(key);
+        long started = System.nanoTime();
+        if (cached != null && cache.isFresh(cached, started)) {
+            ExchangeTimings.current().markServedLocally();
+            cache.recordHit(cached);
+            return toResponse(cached);
+        }
+        if (cached != null && cached.etag() != null) {
+            requestSpec.header("If-None-Match", cached.etag());
+        }
+
+        Response response = context.next(requestSpec, responseSpec);
+        long finished = System.nanoTime();
+        if (cached != null && cached.etag() != null && response.statusCode() == NOT_MODIFIED) {
+            ResponseCache.Entry refreshed = cached.refreshed(finished);
+            cache.store(key, refreshed);
+            cache.recordRevalidation(cached, finished - started);
+            return toResponse(refreshed);
+        }
+
+        cache.recordMiss();
+        if (response.statusCode() == 200 && !hasNoStore(response)) {
+            cache.store(key, new ResponseCache.Entry(
+                    ResponseCache.normalize(uri.getPath()),
+                    response.statusCode(),
+                    response.headers(),
+                    response.contentType(),
+                    response.asByteArray(),
+                    response.header("ETag"),
+                    finished,
+                    finished - started));
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+
+    private static boolean hasNoStore(Response response) {
+        String cacheControl = response.header("Cache-Control");
+        return cacheControl != null && cacheControl.contains("no-store");
+    }
+
+    private static Response toResponse(ResponseCache.Entry entry) {
+        return new ResponseBuilder()
+                .setStatusCode(entry.statusCode())
+                .setStatusLine("HTTP/1.1 " + entry.statusCode() + " OK")
+                .setHeaders(entry.headers())
+                .setContentType(entry.contentType())
+                .setBody(entry.body())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.gabriel.http;
+
+public record ResponseCacheStats(long hits, long misses, long revalidations, long invalidations, long evictions,
+                                 long bytesSaved, double millisSaved, int entries) {
+
+    public long requests() {
+        return hits + misses + revalidations;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) (hits + revalidations) / requests;
+    }
+}
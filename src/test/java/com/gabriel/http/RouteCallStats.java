@@ -0,0 +1,9 @@
+package com.gabriel.http;
+
+public record RouteCallStats(String route, long calls, long retries, long timeouts, long hedgesFired,
+                             long hedgesWon) {
+
+    public double hedgeWinRate() {
+        return hedgesFired == 0 ? 0 : (double) hedgesWon / hedgesFired;
+    }
+}
@@ -0,0 +1,47 @@
+package com.gabriel.http;
+
+import com.gabriel.config.TestConfig;
+
+public record RoutePolicy(int connectTimeoutMillis, int readTimeoutMillis, int maxRetries, long backoffMillis,
+                          long maxBackoffMillis, boolean hedgeEnabled, long hedgeMinDelayMillis,
+                          int hedgeMinSamples) {
+
+    public RoutePolicy {
+        if (connectTimeoutMillis < 0 || readTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeouts não podem ser negativos.");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Quantidade de retries não pode ser negativa: " + maxRetries);
+        }
+        if (backoffMillis < 0 || maxBackoffMillis < backoffMillis) {
+            throw new IllegalArgumentException("Backoff inválido: " + backoffMillis + " até " + maxBackoffMillis);
+        }
+    }
+
+    public static RoutePolicy forRoute(String route) {
+        return new RoutePolicy(
+                TestConfig.getHttpConnectTimeoutMillis(route),
+                TestConfig.getHttpSocketTimeoutMillis(route),
+                TestConfig.getHttpRetryMaxRetries(route),
+                TestConfig.getHttpRetryBackoffMillis(route),
+                TestConfig.getHttpRetryMaxBackoffMillis(route),
+                TestConfig.isHttpHedgeEnabled(route),
+                TestConfig.getHttpHedgeMinDelayMillis(route),
+                TestConfig.getHttpHedgeMinSamples(route));
+    }
+
+    public RoutePolicy withReadTimeoutMillis(int readTimeoutMillis) {
+        return new RoutePolicy(connectTimeoutMillis, readTimeoutMillis, maxRetries, backoffMillis, maxBackoffMillis,
+                hedgeEnabled, hedgeMinDelayMillis, hedgeMinSamples);
+    }
+
+    public RoutePolicy withRetries(int maxRetries, long backoffMillis, long maxBackoffMillis) {
+        return new RoutePolicy(connectTimeoutMillis, readTimeoutMillis, maxRetries, backoffMillis, maxBackoffMillis,
+                hedgeEnabled, hedgeMinDelayMillis, hedgeMinSamples);
+    }
+
+    public RoutePolicy withHedge(boolean hedgeEnabled, long hedgeMinDelayMillis, int hedgeMinSamples) {
+        return new RoutePolicy(connectTimeoutMillis, readTimeoutMillis, maxRetries, backoffMillis, maxBackoffMillis,
+                hedgeEnabled, hedgeMinDelayMillis, hedgeMinSamples);
+    }
+}
@@ -0,0 +1,55 @@
+package com.gabriel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.gabriel.EndpointCall")
+@Label("Endpoint Call")
+@Description("Uma troca HTTP feita pelo PostsEndpoint, do envio até a resposta lida.")
+@Category({"Posts Suite", "HTTP"})
+@StackTrace(false)
+public class EndpointCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Request Wire Bytes")
+    @DataAmount
+    public long requestWireBytes;
+
+    @Label("Response Wire Bytes")
+    @DataAmount
+    public long responseWireBytes;
+
+    @Label("Compression Time")
+    @Timespan
+    public long compressionTime;
+
+    @Label("Connect Time")
+    @Timespan
+    public long connectTime;
+
+    @Label("Time To First Byte")
+    @Timespan
+    public long timeToFirstByte;
+}
@@ -0,0 +1,62 @@
+package com.gabriel.jfr;
+
+import com.gabriel.http.ExchangeTimings;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+public final class EndpointCallEventFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        EndpointCallEvent event = new EndpointCallEvent();
+        if (!event.isEnabled()) {
+            return context.next(requestSpec, responseSpec);
+        }
+        long requestBytes = bodySize(requestSpec.getBody());
+        event.begin();
+        long started = System.nanoTime();
+        Response response = null;
+        try {
+            response = context.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                ExchangeTimings timings = ExchangeTimings.current();
+                event.method = requestSpec.getMethod();
+                event.route = requestSpec.getUserDefinedPath();
+                event.status = response == null ? 0 : response.statusCode();
+                event.requestBytes = requestBytes;
+                event.responseBytes = timings.responseBytes();
+                event.requestWireBytes = timings.requestWireBytes();
+                event.responseWireBytes = timings.responseWireBytes();
+                event.compressionTime = timings.compressionNanos();
+                event.connectTime = timings.connectNanos();
+                event.timeToFirstByte = timings.firstByteAt() == 0 ? 0 : timings.firstByteAt() - started;
+                event.commit();
+            }
+        }
+    }
+
+    // Runs inside the timing filter, which resets the per-thread exchange timings before each request.
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    private static long bodySize(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gabriel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.gabriel.ResourceLoad")
+@Label("Resource Load")
+@Description("Leitura de configuração ou massa de dados da suíte (TestConfig, TestData).")
+@Category({"Posts Suite", "Lifecycle"})
+@StackTrace(false)
+public class ResourceLoadEvent extends Event {
+
+    @Label("Resource")
+    public String resource;
+
+    @Label("Entries")
+    public int entries;
+}
@@ -0,0 +1,22 @@
+package com.gabriel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.gabriel.TestSetup")
+@Label("Test Setup")
+@Description("Setup global do BaseTest executado antes de cada classe de teste.")
+@Category({"Posts Suite", "Lifecycle"})
+@StackTrace(false)
+public class TestSetupEvent extends Event {
+
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Base URL")
+    public String baseUrl;
+}
@@ -0,0 +1,25 @@
+package com.gabriel.load;
+
+import java.util.List;
+import java.util.Locale;
+
+public record DistributedLoadReport(LoadReport merged, List<WorkerResult> workers) {
+
+    public DistributedLoadReport {
+        workers = List.copyOf(workers);
+    }
+
+    public long maxStartLagMillis() {
+        return workers.stream().mapToLong(WorkerResult::startLagMillis).max().orElse(0);
+    }
+
+    public String format() {
+        StringBuilder output = new StringBuilder(merged.format());
+        for (WorkerResult worker : workers) {
+            output.append(String.format(Locale.ROOT, "worker %d: %d req em %.2f s | atraso no início %d ms%n",
+                    worker.workerIndex(), worker.totalRequests(), worker.elapsedNanos() / 1_000_000_000.0,
+                    worker.startLagMillis()));
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,182 @@
+package com.gabriel.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.config.TestConfig;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class LoadCoordinator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration RESULT_GRACE = Duration.ofSeconds(60);
+
+    private final WorkerLauncher launcher;
+    private final int workers;
+    private final Duration startDelay;
+
+    public LoadCoordinator(WorkerLauncher launcher, int workers, Duration startDelay) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Carga distribuída precisa de ao menos um worker.");
+        }
+        this.launcher = launcher;
+        this.workers = workers;
+        this.startDelay = startDelay;
+    }
+
+    public static LoadCoordinator fromConfig() {
+        return new LoadCoordinator(WorkerLauncher.fromConfig(), TestConfig.getLoadWorkers(),
+                Duration.ofMillis(TestConfig.getLoadStartDelayMillis()));
+    }
+
+    // Two phases: every worker first gets its assignment and reports READY once its JVM is warm; only then is a
+    // start instant picked, startDelay ahead, so slow JVM startups never eat into the measured window.
+    public DistributedLoadReport run(LoadProfile profile, String baseUrl) {
+        List<WorkerAssignment> assignments = WorkerAssignment.split(profile, baseUrl, workers);
+        List<WorkerConnection> connections = new ArrayList<>();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (WorkerAssignment assignment : assignments) {
+                    WorkerConnection connection = new WorkerConnection(assignment.workerIndex(),
+                            launcher.launch(assignment.workerIndex()));
+                    connections.add(connection);
+                    connection.send(OBJECT_MAPPER.writeValueAsString(assignment));
+                }
+                await(readers, connections, LoadWorker.READY, READY_TIMEOUT);
+
+                long startAtEpochMillis = System.currentTimeMillis() + startDelay.toMillis();
+                for (WorkerConnection connection : connections) {
+                    connection.send(LoadWorker.START_PREFIX + startAtEpochMillis);
+                }
+                List<String> lines = await(readers, connections, LoadWorker.RESULT_PREFIX,
+                        startDelay.plus(profile.duration()).plus(RESULT_GRACE));
+
+                List<WorkerResult> results = new ArrayList<>();
+                for (String line : lines) {
+                    results.add(OBJECT_MAPPER.readValue(line.substring(LoadWorker.RESULT_PREFIX.length()),
+                            WorkerResult.class));
+                }
+                return new DistributedLoadReport(merge(profile.operations(), results), results);
+            } catch (IOException error) {
+                throw new UncheckedIOException("Falha na comunicação com os workers de carga.", error);
+            } finally {
+                connections.forEach(WorkerConnection::close);
+            }
+        }
+    }
+
+    // HdrHistogram addition is exact, so merged percentiles equal those of a single histogram fed every sample;
+    // the window is the slowest worker's, which keeps the merged throughput conservative.
+    public static LoadReport merge(List<LoadOperation> operations, List<WorkerResult> results) {
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Long> errors = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : operations) {
+            histograms.put(operation, LoadRecorder.newHistogram());
+            errors.put(operation, 0L);
+        }
+        long elapsedNanos = 0;
+        for (WorkerResult result : results) {
+            elapsedNanos = Math.max(elapsedNanos, result.elapsedNanos());
+            for (WorkerResult.OperationResult operation : result.operations()) {
+                histograms.get(operation.operation()).add(operation.histogram());
+                errors.merge(operation.operation(), operation.errors(), Long::sum);
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        List<OperationStats> stats = new ArrayList<>();
+        histograms.forEach((operation, histogram) ->
+                stats.add(LoadRecorder.stats(operation.route(), histogram, errors.get(operation), seconds)));
+        return new LoadReport(elapsed, stats);
+    }
+
+    private static List<String> await(ExecutorService readers, List<WorkerConnection> connections, String prefix,
+                                      Duration timeout) {
+        List<Future<String>> pending = new ArrayList<>();
+        for (WorkerConnection connection : connections) {
+            pending.add(readers.submit(() -> connection.readUntil(prefix)));
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<String> lines = new ArrayList<>();
+        for (int index = 0; index < pending.size(); index++) {
+            try {
+                lines.add(pending.get(index).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException error) {
+                throw new IllegalStateException("Worker " + index + " não respondeu " + prefix.trim() + " em "
+                        + timeout.toSeconds() + " s.", error);
+            } catch (ExecutionException error) {
+                throw new IllegalStateException("Worker " + index + " falhou: " + error.getCause().getMessage(),
+                        error.getCause());
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrompido aguardando os workers de carga.", error);
+            }
+        }
+        return lines;
+    }
+
+    private static final class WorkerConnection implements AutoCloseable {
+
+        private final int index;
+        private final Process process;
+        private final BufferedReader output;
+        private final OutputStream input;
+
+        private WorkerConnection(int index, Process process) {
+            this.index = index;
+            this.process = process;
+            this.output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            this.input = process.getOutputStream();
+        }
+
+        private void send(String line) throws IOException {
+            input.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+            input.flush();
+        }
+
+        private String readUntil(String prefix) throws IOException {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(prefix)) {
+                    return line;
+                }
+            }
+            throw new IllegalStateException("worker " + index + " encerrou (código "
+                    + waitForExit() + ") sem enviar " + prefix.trim() + ".");
+        }
+
+        private int waitForExit() {
+            try {
+                return process.waitFor(5, TimeUnit.SECONDS) ? process.exitValue() : -1;
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
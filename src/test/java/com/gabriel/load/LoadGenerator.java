@@ -0,0 +1,133 @@
+package com.gabriel.load;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.fuzz.JsonBuffer;
+import com.gabriel.fuzz.PostCase;
+import com.gabriel.fuzz.PostPayloadGenerator;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadGenerator {
+
+    private static final int POST_ID_RANGE = 100;
+
+    private final PostsEndpoint endpoint;
+    private final PostPayloadGenerator payloads;
+
+    public LoadGenerator(PostsEndpoint endpoint) {
+        this(endpoint, null);
+    }
+
+    public LoadGenerator(PostsEndpoint endpoint, PostPayloadGenerator payloads) {
+        this.endpoint = endpoint;
+        this.payloads = payloads;
+    }
+
+    public static LoadGenerator fromConfig(PostsEndpoint endpoint) {
+        return new LoadGenerator(endpoint,
+                TestConfig.isLoadGeneratedPayloads() ? PostPayloadGenerator.fromConfig() : null);
+    }
+
+    public LoadReport run(LoadProfile profile) {
+        long start = System.nanoTime();
+        LoadRecorder recorder = run(profile, start);
+        return recorder.report(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    LoadRecorder run(LoadProfile profile, long start) {
+        LoadRecorder recorder = new LoadRecorder(profile.operations());
+        long deadline = start + profile.duration().toNanos();
+        parkUntil(start);
+
+        switch (profile.model()) {
+            case CLOSED_LOOP -> runClosedLoop(profile, recorder, start, deadline);
+            case OPEN_LOOP -> runOpenLoop(profile, recorder, start, deadline);
+        }
+        return recorder;
+    }
+
+    private void runClosedLoop(LoadProfile profile, LoadRecorder recorder, long start, long deadline) {
+        long pacingNanos = profile.pacing().toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < profile.users(); user++) {
+                int userIndex = user;
+                users.submit(() -> {
+                    JsonBuffer buffer = new JsonBuffer();
+                    long iteration = 0;
+                    long intendedStart = start;
+                    while (true) {
+                        if (pacingNanos == 0) {
+                            intendedStart = System.nanoTime();
+                        }
+                        if (intendedStart >= deadline) {
+                            return;
+                        }
+                        parkUntil(intendedStart);
+                        execute(profile.operations(), userIndex + iteration, recorder, intendedStart, buffer);
+                        iteration++;
+                        intendedStart += pacingNanos;
+                    }
+                });
+            }
+        }
+    }
+
+    private void runOpenLoop(LoadProfile profile, LoadRecorder recorder, long start, long deadline) {
+        long intervalNanos = profile.arrivalIntervalNanos();
+        try (ExecutorService arrivals = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long arrival = 0; ; arrival++) {
+                long intendedStart = start + arrival * intervalNanos;
+                if (intendedStart >= deadline) {
+                    return;
+                }
+                parkUntil(intendedStart);
+                long sequence = arrival;
+                arrivals.submit(() -> execute(profile.operations(), sequence, recorder, intendedStart,
+                        new JsonBuffer()));
+            }
+        }
+    }
+
+    // Latency is measured from the intended start, not the actual send, so time spent queued behind a slow
+    // response still shows up in the histogram (coordinated-omission correction).
+    private void execute(List<LoadOperation> operations, long sequence, LoadRecorder recorder, long intendedStart,
+                         JsonBuffer buffer) {
+        LoadOperation operation = operations.get((int) (sequence % operations.size()));
+        int postId = (int) (sequence % POST_ID_RANGE) + 1;
+        boolean failed;
+        try {
+            Response response = operation.execute(endpoint, postId, generatedBody(operation, sequence, postId, buffer));
+            failed = response.statusCode() >= 400;
+        } catch (Exception error) {
+            failed = true;
+        }
+        recorder.record(operation, System.nanoTime() - intendedStart, failed);
+    }
+
+    private byte[] generatedBody(LoadOperation operation, long sequence, int postId, JsonBuffer buffer) {
+        if (payloads == null || !operation.sendsPostBody()) {
+            return null;
+        }
+        PostCase post = payloads.caseAt(sequence);
+        buffer.reset();
+        if (operation == LoadOperation.UPDATE_POST) {
+            PostPayloadGenerator.writeUpdateJson(post, postId, buffer);
+        } else {
+            PostPayloadGenerator.writeCreateJson(post, buffer);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gabriel.load;
+
+import com.gabriel.config.TestData;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PatchPostPayload;
+import com.gabriel.payloads.PostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import io.restassured.response.Response;
+
+import java.util.Map;
+
+public enum LoadOperation {
+
+    GET_POSTS("GET /posts", false) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            return endpoint.getPosts();
+        }
+    },
+    GET_POST_BY_ID("GET /posts/{id}", false) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            return endpoint.getPostById(postId);
+        }
+    },
+    CREATE_POST("POST /posts", true) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            return generatedBody == null ? endpoint.createPost(Bodies.CREATE) : endpoint.createPost(generatedBody);
+        }
+    },
+    UPDATE_POST("PUT /posts/{id}", true) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            if (generatedBody != null) {
+                return endpoint.updatePost(postId, generatedBody);
+            }
+            return endpoint.updatePost(postId, PostPayload.update(postId,
+                    Bodies.UPDATE.title(), Bodies.UPDATE.body(), Bodies.UPDATE.userId()));
+        }
+    },
+    PATCH_POST("PATCH /posts/{id}", false) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            return endpoint.patchPost(postId, Bodies.PATCH);
+        }
+    },
+    DELETE_POST("DELETE /posts/{id}", false) {
+        @Override
+        Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody) {
+            return endpoint.deletePost(postId);
+        }
+    };
+
+    private final String route;
+    private final boolean sendsPostBody;
+
+    LoadOperation(String route, boolean sendsPostBody) {
+        this.route = route;
+        this.sendsPostBody = sendsPostBody;
+    }
+
+    public String route() {
+        return route;
+    }
+
+    boolean sendsPostBody() {
+        return sendsPostBody;
+    }
+
+    // generatedBody is the JSON from a PostPayloadGenerator, or null to send the fixed body from tests-data.json.
+    abstract Response execute(PostsEndpoint endpoint, int postId, byte[] generatedBody);
+
+    private static final class Bodies {
+
+        private static final CreatePostPayload CREATE = createBody();
+        private static final UpdatePostPayload UPDATE = updateBody();
+        private static final PatchPostPayload PATCH = PostPayload.patch(TestData.getPatchPostData().get("title").toString());
+
+        private static CreatePostPayload createBody() {
+            Map<String, Object> data = TestData.getCreatePostData();
+            return PostPayload.create(
+                    data.get("title").toString(),
+                    data.get("body").toString(),
+                    Integer.parseInt(data.get("userId").toString()));
+        }
+
+        private static UpdatePostPayload updateBody() {
+            Map<String, Object> data = TestData.getUpdatePostData();
+            return PostPayload.update(
+                    Integer.parseInt(data.get("id").toString()),
+                    data.get("title").toString(),
+                    data.get("body").toString(),
+                    Integer.parseInt(data.get("userId").toString()));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.gabriel.load;
+
+import com.gabriel.config.TestConfig;
+
+import java.time.Duration;
+import java.util.List;
+
+public record LoadProfile(Model model, int users, double ratePerSecond, Duration pacing, Duration duration,
+                          List<LoadOperation> operations) {
+
+    public enum Model {
+        CLOSED_LOOP,
+        OPEN_LOOP
+    }
+
+    public LoadProfile {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duração da carga deve ser positiva.");
+        }
+        if (model == Model.CLOSED_LOOP && users <= 0) {
+            throw new IllegalArgumentException("Carga em loop fechado precisa de ao menos um usuário.");
+        }
+        if (model == Model.OPEN_LOOP && ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Carga em loop aberto precisa de taxa de chegada positiva.");
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Carga precisa de ao menos uma operação.");
+        }
+        operations = List.copyOf(operations);
+    }
+
+    public static LoadProfile closedLoop(int users, Duration pacing, Duration duration) {
+        return new LoadProfile(Model.CLOSED_LOOP, users, 0, pacing, duration, List.of(LoadOperation.values()));
+    }
+
+    public static LoadProfile openLoop(double ratePerSecond, Duration duration) {
+        return new LoadProfile(Model.OPEN_LOOP, 0, ratePerSecond, Duration.ZERO, duration, List.of(LoadOperation.values()));
+    }
+
+    public static LoadProfile fromConfig() {
+        Duration duration = Duration.ofSeconds(TestConfig.getLoadDurationSeconds());
+        return "open".equalsIgnoreCase(TestConfig.getLoadModel())
+                ? openLoop(TestConfig.getLoadRatePerSecond(), duration)
+                : closedLoop(TestConfig.getLoadUsers(), Duration.ofMillis(TestConfig.getLoadPacingMillis()), duration);
+    }
+
+    public LoadProfile withOperations(LoadOperation... operations) {
+        return new LoadProfile(model, users, ratePerSecond, pacing, duration, List.of(operations));
+    }
+
+    long arrivalIntervalNanos() {
+        return (long) (1_000_000_000L / ratePerSecond);
+    }
+}
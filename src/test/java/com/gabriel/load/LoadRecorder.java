@@ -0,0 +1,77 @@
+package com.gabriel.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LoadRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LoadOperation, ConcurrentHistogram> histograms = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+    LoadRecorder(List<LoadOperation> operations) {
+        for (LoadOperation operation : operations) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(LoadOperation operation, long latencyNanos, boolean failed) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (failed) {
+            errors.get(operation).increment();
+        }
+    }
+
+    LoadReport report(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        List<OperationStats> operations = new ArrayList<>();
+        for (Map.Entry<LoadOperation, ConcurrentHistogram> entry : histograms.entrySet()) {
+            operations.add(stats(entry.getKey().route(), entry.getValue().copy(), errors.get(entry.getKey()).sum(),
+                    seconds));
+        }
+        return new LoadReport(elapsed, operations);
+    }
+
+    Map<LoadOperation, Histogram> histograms() {
+        Map<LoadOperation, Histogram> copies = new EnumMap<>(LoadOperation.class);
+        histograms.forEach((operation, histogram) -> copies.put(operation, histogram.copy()));
+        return copies;
+    }
+
+    long errors(LoadOperation operation) {
+        return errors.get(operation).sum();
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    static OperationStats stats(String route, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        return new OperationStats(
+                route,
+                count,
+                errors,
+                count / seconds,
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.gabriel.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+public record LoadReport(Duration elapsed, List<OperationStats> operations) {
+
+    public LoadReport {
+        operations = List.copyOf(operations);
+    }
+
+    public long totalRequests() {
+        return operations.stream().mapToLong(OperationStats::count).sum();
+    }
+
+    public long totalErrors() {
+        return operations.stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    public double throughputPerSecond() {
+        return totalRequests() / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+
+    public double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    public OperationStats stats(LoadOperation operation) {
+        return operations.stream()
+                .filter(stats -> stats.route().equals(operation.route()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Operação sem medições: " + operation.route()));
+    }
+
+    public String format() {
+        StringBuilder output = new StringBuilder();
+        output.append(String.format(Locale.ROOT, "%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "rota", "req", "erros", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (OperationStats stats : operations) {
+            output.append(String.format(Locale.ROOT, "%-22s %8d %7d %9.1f %9.3f %9.3f %9.3f %9.3f%n",
+                    stats.route(), stats.count(), stats.errors(), stats.throughputPerSecond(),
+                    stats.p50Millis(), stats.p99Millis(), stats.p999Millis(), stats.maxMillis()));
+        }
+        output.append(String.format(Locale.ROOT, "total: %d req em %.2f s | %.1f req/s | erros %.2f%%%n",
+                totalRequests(), elapsed.toNanos() / 1_000_000_000.0, throughputPerSecond(), errorRate() * 100));
+        return output.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.gabriel.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.endpoints.PostsEndpoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+public final class LoadWorker {
+
+    static final String READY = "READY";
+    static final String START_PREFIX = "START ";
+    static final String RESULT_PREFIX = "RESULT ";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private LoadWorker() {
+    }
+
+    // Protocol over stdin/stdout, one line each: assignment JSON in, READY out, "START <epoch millis>" in,
+    // "RESULT <json>" out. Anything else the JVM prints on stdout is ignored by the coordinator.
+    public static void main(String[] args) {
+        try {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            WorkerAssignment assignment = OBJECT_MAPPER.readValue(readLine(input), WorkerAssignment.class);
+            LoadGenerator generator = LoadGenerator.fromConfig(warmUp(new PostsEndpoint(assignment.baseUrl())));
+            System.out.println(READY);
+            System.out.flush();
+
+            String start = readLine(input);
+            if (!start.startsWith(START_PREFIX)) {
+                throw new IllegalStateException("Comando inesperado do coordenador: " + start);
+            }
+            WorkerResult result = run(generator, assignment, Long.parseLong(start.substring(START_PREFIX.length())));
+            System.out.println(RESULT_PREFIX + OBJECT_MAPPER.writeValueAsString(result));
+            System.out.flush();
+        } catch (Exception error) {
+            error.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    public static WorkerResult run(WorkerAssignment assignment, long startAtEpochMillis) {
+        return run(new LoadGenerator(new PostsEndpoint(assignment.baseUrl())), assignment, startAtEpochMillis);
+    }
+
+    // The shared start is a wall-clock instant; it is converted to this JVM's nanoTime once so the pacing itself
+    // never depends on wall-clock adjustments during the run.
+    private static WorkerResult run(LoadGenerator generator, WorkerAssignment assignment, long startAtEpochMillis) {
+        long now = System.currentTimeMillis();
+        long startLagMillis = Math.max(0, now - startAtEpochMillis);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(startAtEpochMillis - now)
+                + assignment.phaseOffsetNanos();
+        LoadRecorder recorder = generator.run(assignment.profile(), start);
+        return WorkerResult.of(assignment.workerIndex(), startLagMillis, System.nanoTime() - start, recorder);
+    }
+
+    // One request before READY loads RestAssured and opens the pool, so that cost does not land in the first
+    // second of the measured run.
+    private static PostsEndpoint warmUp(PostsEndpoint endpoint) {
+        try {
+            endpoint.getPostById(1);
+        } catch (RuntimeException ignored) {
+            // The run itself will record the failures if the target is really unreachable.
+        }
+        return endpoint;
+    }
+
+    private static String readLine(BufferedReader input) throws IOException {
+        String line = input.readLine();
+        if (line == null) {
+            throw new IllegalStateException("Coordenador encerrou a entrada antes do fim do protocolo.");
+        }
+        return line.trim();
+    }
+}
@@ -0,0 +1,45 @@
+package com.gabriel.load;
+
+import com.gabriel.config.TestConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class LocalWorkerLauncher implements WorkerLauncher {
+
+    private static final List<String> FORWARDED_PROPERTY_PREFIXES = List.of("http.", "payload.", "load.payload.");
+
+    private final List<String> jvmArgs;
+
+    public LocalWorkerLauncher(List<String> jvmArgs) {
+        this.jvmArgs = List.copyOf(jvmArgs);
+    }
+
+    public static LocalWorkerLauncher fromConfig() {
+        return new LocalWorkerLauncher(Arrays.stream(TestConfig.getLoadWorkerJvmArgs().trim().split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .toList());
+    }
+
+    // Workers reuse this JVM's classpath and the http.* and payload overrides given on the command line, so a child
+    // process drives the endpoint with the same pool, timeout and payload settings as the coordinator would.
+    @Override
+    public Process launch(int workerIndex) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> FORWARDED_PROPERTY_PREFIXES.stream().anyMatch(name::startsWith))
+                .sorted()
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadWorker.class.getName());
+        return new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+}
@@ -0,0 +1,9 @@
+package com.gabriel.load;
+
+public record OperationStats(String route, long count, long errors, double throughputPerSecond,
+                             double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+    public double errorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gabriel.load;
+
+import java.io.IOException;
+import java.util.List;
+
+public final class SshWorkerLauncher implements WorkerLauncher {
+
+    private final List<String> hosts;
+    private final String remoteCommand;
+
+    // ssh runs the command from the login directory, so the relative target/... paths need an explicit cd first.
+    public SshWorkerLauncher(List<String> hosts, String remoteDir, String remoteCommand) {
+        if (hosts.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um host para os workers remotos.");
+        }
+        this.hosts = List.copyOf(hosts);
+        this.remoteCommand = "cd '" + remoteDir.replace("'", "'\\''") + "' && " + remoteCommand;
+    }
+
+    public String remoteCommand() {
+        return remoteCommand;
+    }
+
+    // ssh forwards stdin/stdout, so remote workers speak the same line protocol as local child processes.
+    // BatchMode makes a missing key fail fast instead of waiting on a password prompt.
+    @Override
+    public Process launch(int workerIndex) throws IOException {
+        String host = hosts.get(workerIndex % hosts.size());
+        return new ProcessBuilder("ssh", "-o", "BatchMode=yes", host, remoteCommand)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+}
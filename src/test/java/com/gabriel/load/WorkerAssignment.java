@@ -0,0 +1,38 @@
+package com.gabriel.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public record WorkerAssignment(int workerIndex, String baseUrl, LoadProfile.Model model, int users,
+                               double ratePerSecond, long pacingMillis, long durationMillis,
+                               List<LoadOperation> operations, long phaseOffsetNanos) {
+
+    // Users are split with the remainder going to the first workers; the open-loop rate is split evenly and each
+    // worker is shifted by one global arrival interval, so the merged arrivals interleave instead of bursting.
+    public static List<WorkerAssignment> split(LoadProfile profile, String baseUrl, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Carga distribuída precisa de ao menos um worker.");
+        }
+        if (profile.model() == LoadProfile.Model.CLOSED_LOOP && profile.users() < workers) {
+            throw new IllegalArgumentException("Carga em loop fechado precisa de ao menos um usuário por worker: "
+                    + profile.users() + " usuário(s) para " + workers + " worker(s).");
+        }
+        List<WorkerAssignment> assignments = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            boolean closed = profile.model() == LoadProfile.Model.CLOSED_LOOP;
+            int users = closed ? profile.users() / workers + (worker < profile.users() % workers ? 1 : 0) : 0;
+            double rate = closed ? 0 : profile.ratePerSecond() / workers;
+            long phaseOffsetNanos = closed ? 0 : worker * profile.arrivalIntervalNanos();
+            assignments.add(new WorkerAssignment(worker, baseUrl, profile.model(), users, rate,
+                    profile.pacing().toMillis(), profile.duration().toMillis(), profile.operations(),
+                    phaseOffsetNanos));
+        }
+        return assignments;
+    }
+
+    public LoadProfile profile() {
+        return new LoadProfile(model, users, ratePerSecond, Duration.ofMillis(pacingMillis),
+                Duration.ofMillis(durationMillis), operations);
+    }
+}
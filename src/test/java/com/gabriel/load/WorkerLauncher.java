@@ -0,0 +1,20 @@
+package com.gabriel.load;
+
+import com.gabriel.config.TestConfig;
+
+import java.io.IOException;
+import java.util.List;
+
+@FunctionalInterface
+public interface WorkerLauncher {
+
+    Process launch(int workerIndex) throws IOException;
+
+    static WorkerLauncher fromConfig() {
+        List<String> hosts = TestConfig.getLoadWorkerHosts();
+        return hosts.isEmpty()
+                ? LocalWorkerLauncher.fromConfig()
+                : new SshWorkerLauncher(hosts, TestConfig.getLoadWorkerRemoteDir(),
+                        TestConfig.getLoadWorkerRemoteCommand());
+    }
+}
@@ -0,0 +1,50 @@
+package com.gabriel.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+public record WorkerResult(int workerIndex, long startLagMillis, long elapsedNanos, List<OperationResult> operations) {
+
+    public WorkerResult {
+        operations = List.copyOf(operations);
+    }
+
+    static WorkerResult of(int workerIndex, long startLagMillis, long elapsedNanos, LoadRecorder recorder) {
+        List<OperationResult> operations = new ArrayList<>();
+        for (Map.Entry<LoadOperation, Histogram> entry : recorder.histograms().entrySet()) {
+            operations.add(new OperationResult(entry.getKey(), recorder.errors(entry.getKey()),
+                    encode(entry.getValue())));
+        }
+        return new WorkerResult(workerIndex, startLagMillis, elapsedNanos, operations);
+    }
+
+    public long totalRequests() {
+        return operations.stream().mapToLong(operation -> operation.histogram().getTotalCount()).sum();
+    }
+
+    // Histograms travel in HdrHistogram's compressed form: a few KB per operation regardless of request count.
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    public record OperationResult(LoadOperation operation, long errors, String compressedHistogram) {
+
+        public Histogram histogram() {
+            try {
+                return Histogram.decodeFromCompressedByteBuffer(
+                        ByteBuffer.wrap(Base64.getDecoder().decode(compressedHistogram)), 0);
+            } catch (DataFormatException | IllegalArgumentException error) {
+                throw new IllegalStateException("Histograma inválido recebido para " + operation.route() + ".", error);
+            }
+        }
+    }
+}
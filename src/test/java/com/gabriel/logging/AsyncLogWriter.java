@@ -0,0 +1,77 @@
+package com.gabriel.logging;
+
+import com.gabriel.config.TestConfig;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+final class AsyncLogWriter {
+
+    private static final AsyncLogWriter SHARED = new AsyncLogWriter(System.out, Path.of(TestConfig.getLogCaptureFile()));
+
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    private final PrintStream output;
+    private final Path file;
+
+    private AsyncLogWriter(PrintStream output, Path file) {
+        this.output = output;
+        this.file = file;
+        Thread writer = new Thread(this::drainLoop, "test-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    static AsyncLogWriter shared() {
+        return SHARED;
+    }
+
+    void write(Supplier<String> block) {
+        queue.add(() -> {
+            String text = block.get();
+            output.print(text);
+            append(text);
+        });
+    }
+
+    void flush(long timeout, TimeUnit unit) {
+        CountDownLatch drained = new CountDownLatch(1);
+        queue.add(drained::countDown);
+        try {
+            drained.await(timeout, unit);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        output.flush();
+    }
+
+    private void append(String text) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException error) {
+            output.println("Falha ao gravar log capturado em " + file + ": " + error.getMessage());
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            try {
+                queue.take().run();
+            } catch (InterruptedException error) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.gabriel.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+final class LogBuffer {
+
+    private final int capacity;
+    private final Deque<Supplier<String>> entries;
+    private long dropped;
+
+    LogBuffer(int capacity) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    synchronized void add(Supplier<String> entry) {
+        if (entries.size() == capacity) {
+            entries.pollFirst();
+            dropped++;
+        }
+        entries.addLast(entry);
+    }
+
+    synchronized List<Supplier<String>> drain() {
+        List<Supplier<String>> drained = new ArrayList<>(entries);
+        entries.clear();
+        return drained;
+    }
+
+    synchronized long dropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,69 @@
+package com.gabriel.logging;
+
+import com.gabriel.config.TestConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public final class LogCaptureExtension implements BeforeEachCallback, AfterEachCallback, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(LogCaptureExtension.class);
+    private static final String SEPARATOR = "=======================================================";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(LogBuffer.class, TestLog.open());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestLog.close();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        write(context, "FALHA", cause);
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        double sampleRate = TestConfig.getLogCaptureSuccessSampleRate();
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            write(context, "SUCESSO", null);
+        }
+    }
+
+    private static void write(ExtensionContext context, String outcome, Throwable cause) {
+        LogBuffer buffer = context.getStore(NAMESPACE).get(LogBuffer.class, LogBuffer.class);
+        if (buffer == null) {
+            return;
+        }
+        List<Supplier<String>> entries = buffer.drain();
+        long dropped = buffer.dropped();
+        String title = outcome + ": " + context.getDisplayName()
+                + context.getTestClass().map(testClass -> " (" + testClass.getSimpleName() + ")").orElse("");
+        AsyncLogWriter.shared().write(() -> format(title, cause, dropped, entries));
+    }
+
+    private static String format(String title, Throwable cause, long dropped, List<Supplier<String>> entries) {
+        String separator = System.lineSeparator();
+        StringBuilder block = new StringBuilder(separator)
+                .append(SEPARATOR).append(separator)
+                .append(title).append(separator)
+                .append(SEPARATOR).append(separator);
+        if (cause != null) {
+            String message = String.valueOf(cause.getMessage()).strip().lines().findFirst().orElse("");
+            block.append("Causa: ").append(cause.getClass().getName()).append(": ").append(message).append(separator);
+        }
+        if (dropped > 0) {
+            block.append("... ").append(dropped).append(" registro(s) anterior(es) descartado(s)").append(separator);
+        }
+        entries.forEach(entry -> block.append(entry.get()).append(separator));
+        return block.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.gabriel.logging;
+
+import com.gabriel.config.TestConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public final class LogCaptureFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Optional<LogBuffer> buffer = TestLog.current();
+        if (buffer.isEmpty()) {
+            return context.next(requestSpec, responseSpec);
+        }
+
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        Object requestBody = requestSpec.getBody();
+        Response response = null;
+        try {
+            response = context.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            Response captured = response;
+            buffer.get().add(() -> format(method, uri, requestBody, captured));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    private static String format(String method, String uri, Object requestBody, Response response) {
+        StringBuilder text = new StringBuilder(method).append(' ').append(uri);
+        String body = bodyOf(requestBody);
+        if (body != null) {
+            text.append(System.lineSeparator()).append("  Requisição: ").append(truncate(body));
+        }
+        if (response == null) {
+            return text.append(System.lineSeparator()).append("  Sem resposta").toString();
+        }
+        return text.append(System.lineSeparator()).append("  Status: ").append(response.statusCode())
+                .append(System.lineSeparator()).append("  Resposta: ").append(truncate(response.asString()))
+                .toString();
+    }
+
+    private static String bodyOf(Object body) {
+        if (body instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return body == null ? null : body.toString();
+    }
+
+    private static String truncate(String text) {
+        int limit = TestConfig.getLogCaptureMaxBodyChars();
+        return text.length() <= limit ? text : text.substring(0, limit) + "... (" + text.length() + " caracteres)";
+    }
+}
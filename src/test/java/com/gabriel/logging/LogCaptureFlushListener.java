@@ -0,0 +1,12 @@
+package com.gabriel.logging;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+public class LogCaptureFlushListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        TestLog.flush();
+    }
+}
@@ -0,0 +1,62 @@
+package com.gabriel.logging;
+
+import com.gabriel.config.TestConfig;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class TestLog {
+
+    private static final ThreadLocal<LogBuffer> CURRENT = new ThreadLocal<>();
+
+    private TestLog() {
+    }
+
+    public static void info(String message) {
+        LogBuffer buffer = CURRENT.get();
+        if (buffer != null) {
+            buffer.add(() -> message);
+        }
+    }
+
+    public static void info(Supplier<String> message) {
+        LogBuffer buffer = CURRENT.get();
+        if (buffer != null) {
+            buffer.add(message);
+        }
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        LogBuffer buffer = CURRENT.get();
+        if (buffer == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(buffer);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public static void flush() {
+        AsyncLogWriter.shared().flush(10, TimeUnit.SECONDS);
+    }
+
+    static LogBuffer open() {
+        LogBuffer buffer = new LogBuffer(TestConfig.getLogCaptureMaxEntries());
+        CURRENT.set(buffer);
+        return buffer;
+    }
+
+    static Optional<LogBuffer> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,67 @@
+package com.gabriel.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String route;
+    private final ConcurrentHistogram latency = newHistogram();
+    private final ConcurrentHistogram firstByte = newHistogram();
+    private final ConcurrentHistogram connect = newHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder requestWireBytes = new LongAdder();
+    private final LongAdder responseWireBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    EndpointMetrics(String route) {
+        this.route = route;
+    }
+
+    void record(long totalNanos, long firstByteNanos, long connectNanos, long sentBytes, long receivedBytes,
+                long sentWireBytes, long receivedWireBytes, long codecNanos, boolean failed) {
+        latency.recordValue(toMicros(totalNanos));
+        firstByte.recordValue(toMicros(firstByteNanos));
+        if (connectNanos > 0) {
+            connect.recordValue(toMicros(connectNanos));
+        }
+        requestBytes.add(sentBytes);
+        responseBytes.add(receivedBytes);
+        requestWireBytes.add(sentWireBytes);
+        responseWireBytes.add(receivedWireBytes);
+        compressionNanos.add(codecNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    EndpointSnapshot snapshot() {
+        return new EndpointSnapshot(
+                route,
+                latency.getTotalCount(),
+                errors.sum(),
+                requestBytes.sum(),
+                responseBytes.sum(),
+                requestWireBytes.sum(),
+                responseWireBytes.sum(),
+                compressionNanos.sum(),
+                LatencySummary.of(latency.copy()),
+                LatencySummary.of(firstByte.copy()),
+                LatencySummary.of(connect.copy()));
+    }
+
+    private static ConcurrentHistogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -0,0 +1,20 @@
+package com.gabriel.metrics;
+
+// requestBytes/responseBytes are the decoded bodies; the wire counters are what was actually transferred, so with
+// compression off both pairs match.
+public record EndpointSnapshot(String route, long count, long errors, long requestBytes, long responseBytes,
+                               long requestWireBytes, long responseWireBytes, long compressionNanos,
+                               LatencySummary latency, LatencySummary firstByte, LatencySummary connect) {
+
+    public String method() {
+        return route.substring(0, route.indexOf(' '));
+    }
+
+    public String path() {
+        return route.substring(route.indexOf(' ') + 1);
+    }
+
+    public long savedBytes() {
+        return requestBytes + responseBytes - requestWireBytes - responseWireBytes;
+    }
+}
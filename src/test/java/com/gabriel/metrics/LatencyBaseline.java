@@ -0,0 +1,50 @@
+package com.gabriel.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// The last few recorded runs, not a single one: the gate needs their spread to tell noise from a regression.
+public record LatencyBaseline(List<Run> runs) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public LatencyBaseline {
+        runs = List.copyOf(runs);
+    }
+
+    public record Run(List<EndpointSnapshot> endpoints) {
+    }
+
+    public static LatencyBaseline load(Path file) {
+        try {
+            return OBJECT_MAPPER.readValue(file.toFile(), LatencyBaseline.class);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao ler baseline de latência de " + file + ".", error);
+        }
+    }
+
+    public LatencyBaseline append(List<EndpointSnapshot> endpoints, int maxRuns) {
+        List<Run> kept = new ArrayList<>(runs);
+        kept.add(new Run(endpoints));
+        return new LatencyBaseline(kept.subList(Math.max(0, kept.size() - maxRuns), kept.size()));
+    }
+
+    public void save(Path file) {
+        try {
+            Path parent = Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            OBJECT_MAPPER.writeValue(temporary.toFile(), this);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar baseline de latência em " + file + ".", error);
+        }
+    }
+}
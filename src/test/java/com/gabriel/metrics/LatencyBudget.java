@@ -0,0 +1,19 @@
+package com.gabriel.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Repeatable(LatencyBudgets.class)
+public @interface LatencyBudget {
+
+    String route();
+
+    double percentile() default 95;
+
+    double millis();
+}
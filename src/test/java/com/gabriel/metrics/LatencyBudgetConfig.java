@@ -0,0 +1,49 @@
+package com.gabriel.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+final class LatencyBudgetConfig {
+
+    private static final String RESOURCE = "config/latency-budgets.properties";
+    private static final List<LatencyBudgetRule> RULES = load();
+
+    private LatencyBudgetConfig() {
+    }
+
+    static List<LatencyBudgetRule> rules() {
+        return RULES;
+    }
+
+    private static List<LatencyBudgetRule> load() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = open()) {
+            if (inputStream == null) {
+                return List.of();
+            }
+            properties.load(inputStream);
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao carregar orçamentos de latência.", error);
+        }
+
+        List<LatencyBudgetRule> rules = new ArrayList<>();
+        for (String route : properties.stringPropertyNames()) {
+            rules.addAll(LatencyBudgetRule.parse(route, properties.getProperty(route)));
+        }
+        return List.copyOf(rules);
+    }
+
+    private static InputStream open() throws IOException {
+        InputStream classpathStream = LatencyBudgetConfig.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (classpathStream != null) {
+            return classpathStream;
+        }
+        Path fallbackPath = Path.of("src", "test", "resources", RESOURCE);
+        return Files.exists(fallbackPath) ? Files.newInputStream(fallbackPath) : null;
+    }
+}
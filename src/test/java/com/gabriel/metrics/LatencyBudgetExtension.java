@@ -0,0 +1,63 @@
+package com.gabriel.metrics;
+
+import com.gabriel.config.TestConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class LatencyBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestMetrics.openScope();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Optional<RequestMetrics> scope = RequestMetrics.currentScope();
+        RequestMetrics.closeScope();
+        if (scope.isEmpty() || !TestConfig.isLatencyBudgetEnabled()) {
+            return;
+        }
+
+        List<String> breaches = new ArrayList<>();
+        for (LatencyBudgetRule rule : budgetsFor(context)) {
+            scope.get().snapshot(rule.route())
+                    .filter(snapshot -> rule.hasEnoughSamples(snapshot.count()))
+                    .map(EndpointSnapshot::latency)
+                    .filter(rule::isBreachedBy)
+                    .ifPresent(latency -> breaches.add(rule.describe(latency)));
+        }
+        if (!breaches.isEmpty()) {
+            throw new AssertionError("Orçamento de latência excedido: " + String.join("; ", breaches));
+        }
+    }
+
+    private static List<LatencyBudgetRule> budgetsFor(ExtensionContext context) {
+        Map<String, LatencyBudgetRule> budgets = new LinkedHashMap<>();
+        LatencyBudgetConfig.rules().forEach(rule -> budgets.put(key(rule), rule));
+        context.getTestClass().ifPresent(testClass -> AnnotationSupport
+                .findRepeatableAnnotations(testClass, LatencyBudget.class)
+                .forEach(budget -> put(budgets, budget)));
+        context.getTestMethod().ifPresent(testMethod -> AnnotationSupport
+                .findRepeatableAnnotations(testMethod, LatencyBudget.class)
+                .forEach(budget -> put(budgets, budget)));
+        return List.copyOf(budgets.values());
+    }
+
+    private static void put(Map<String, LatencyBudgetRule> budgets, LatencyBudget budget) {
+        LatencyBudgetRule rule = LatencyBudgetRule.of(budget);
+        budgets.put(key(rule), rule);
+    }
+
+    private static String key(LatencyBudgetRule rule) {
+        return rule.route() + "@" + rule.percentile();
+    }
+}
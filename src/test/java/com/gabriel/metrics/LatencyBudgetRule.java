@@ -0,0 +1,53 @@
+package com.gabriel.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public record LatencyBudgetRule(String route, double percentile, double millis) {
+
+    public LatencyBudgetRule {
+        if (!LatencySummary.RECORDED_PERCENTILES.contains(percentile)) {
+            throw new IllegalArgumentException("Percentil inválido no orçamento de " + route + ": " + percentile);
+        }
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Limite inválido no orçamento de " + route + ": " + millis);
+        }
+    }
+
+    public static LatencyBudgetRule of(LatencyBudget budget) {
+        return new LatencyBudgetRule(budget.route(), budget.percentile(), budget.millis());
+    }
+
+    public static List<LatencyBudgetRule> parse(String route, String expression) {
+        List<LatencyBudgetRule> rules = new ArrayList<>();
+        for (String term : expression.split(",")) {
+            String[] parts = term.trim().split("<");
+            if (parts.length != 2 || !parts[0].trim().startsWith("p")) {
+                throw new IllegalArgumentException("Orçamento inválido para " + route + ": " + term.trim());
+            }
+            rules.add(new LatencyBudgetRule(
+                    route,
+                    Double.parseDouble(parts[0].trim().substring(1)),
+                    Double.parseDouble(parts[1].trim().replace("ms", ""))));
+        }
+        return rules;
+    }
+
+    public boolean hasEnoughSamples(long count) {
+        return count >= LatencySummary.samplesFor(percentile);
+    }
+
+    public boolean isBreachedBy(LatencySummary latency) {
+        return latency.percentile(percentile) >= millis;
+    }
+
+    public String describe(LatencySummary latency) {
+        return String.format(Locale.ROOT, "%s p%s = %.3f ms (orçamento < %.0f ms)",
+                route, formatPercentile(), latency.percentile(percentile), millis);
+    }
+
+    private String formatPercentile() {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gabriel.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+
+public record LatencySummary(double p50, double p90, double p95, double p99, double p999, double max, double mean) {
+
+    public static final List<Double> RECORDED_PERCENTILES = List.of(50.0, 90.0, 95.0, 99.0, 99.9, 100.0);
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    static LatencySummary of(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new LatencySummary(0, 0, 0, 0, 0, 0, 0);
+        }
+        return new LatencySummary(
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                histogram.getMean() / MICROS_PER_MILLI);
+    }
+
+    // Only the percentiles kept in the summary; anything else would silently be answered with a neighbour.
+    public double percentile(double percentile) {
+        if (percentile == 50) {
+            return p50;
+        }
+        if (percentile == 90) {
+            return p90;
+        }
+        if (percentile == 95) {
+            return p95;
+        }
+        if (percentile == 99) {
+            return p99;
+        }
+        if (percentile == 99.9) {
+            return p999;
+        }
+        if (percentile == 100) {
+            return max;
+        }
+        throw new IllegalArgumentException("Percentil não registrado: " + percentile + ". Use um de "
+                + RECORDED_PERCENTILES + ".");
+    }
+
+    // Below this many samples the percentile is just the slowest call (p95 of 3 calls is their max).
+    public static long samplesFor(double percentile) {
+        return (long) Math.ceil(100 / (100 - Math.min(percentile, 99.9)));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,136 @@
+package com.gabriel.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gabriel.http.ResponseCacheStats;
+import com.gabriel.http.RouteCallStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class MetricsExporter {
+
+    public static final String JSON_FILE = "request-metrics.json";
+    public static final String PROMETHEUS_FILE = "request-metrics.prom";
+    public static final String CACHE_FILE = "response-cache.json";
+    public static final String ROUTE_CALLS_FILE = "route-calls.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private MetricsExporter() {
+    }
+
+    public static void export(Path directory, List<EndpointSnapshot> endpoints) {
+        try {
+            Files.createDirectories(directory);
+            OBJECT_MAPPER.writeValue(directory.resolve(JSON_FILE).toFile(), Map.of("endpoints", endpoints));
+            Files.writeString(directory.resolve(PROMETHEUS_FILE), toPrometheus(endpoints), StandardCharsets.UTF_8);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao exportar métricas em " + directory + ".", error);
+        }
+    }
+
+    public static void exportCache(Path directory, ResponseCacheStats stats) {
+        try {
+            Files.createDirectories(directory);
+            OBJECT_MAPPER.writeValue(directory.resolve(CACHE_FILE).toFile(), stats);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao exportar estatísticas do cache em " + directory + ".", error);
+        }
+    }
+
+    public static void exportRouteCalls(Path directory, List<RouteCallStats> routes) {
+        try {
+            Files.createDirectories(directory);
+            OBJECT_MAPPER.writeValue(directory.resolve(ROUTE_CALLS_FILE).toFile(), Map.of("routes", routes));
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao exportar retries e hedging em " + directory + ".", error);
+        }
+    }
+
+    public static List<EndpointSnapshot> read(Path jsonFile) {
+        try {
+            return OBJECT_MAPPER.readValue(jsonFile.toFile(), MetricsFile.class).endpoints();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao ler métricas de " + jsonFile + ".", error);
+        }
+    }
+
+    public static String toPrometheus(List<EndpointSnapshot> endpoints) {
+        StringBuilder output = new StringBuilder();
+        summary(output, endpoints, "posts_endpoint_request_duration_seconds", "Latência total por rota.",
+                EndpointSnapshot::latency);
+        summary(output, endpoints, "posts_endpoint_first_byte_seconds", "Tempo até o primeiro byte por rota.",
+                EndpointSnapshot::firstByte);
+        summary(output, endpoints, "posts_endpoint_connect_seconds", "Tempo de DNS e conexão por rota.",
+                EndpointSnapshot::connect);
+        counter(output, endpoints, "posts_endpoint_request_bytes_total", "Bytes enviados no corpo das requisições.",
+                EndpointSnapshot::requestBytes);
+        counter(output, endpoints, "posts_endpoint_response_bytes_total", "Bytes recebidos no corpo das respostas.",
+                EndpointSnapshot::responseBytes);
+        counter(output, endpoints, "posts_endpoint_request_wire_bytes_total",
+                "Bytes de corpo enviados pela rede, após a compressão.", EndpointSnapshot::requestWireBytes);
+        counter(output, endpoints, "posts_endpoint_response_wire_bytes_total",
+                "Bytes de corpo recebidos pela rede, antes da descompressão.", EndpointSnapshot::responseWireBytes);
+        counter(output, endpoints, "posts_endpoint_errors_total", "Requisições com falha ou status 5xx.",
+                EndpointSnapshot::errors);
+        output.append("# HELP posts_endpoint_compression_seconds_total Tempo de CPU gasto comprimindo e ")
+                .append("descomprimindo corpos.\n# TYPE posts_endpoint_compression_seconds_total counter\n");
+        for (EndpointSnapshot endpoint : endpoints) {
+            output.append("posts_endpoint_compression_seconds_total{").append(labels(endpoint)).append("} ")
+                    .append(seconds(endpoint.compressionNanos() / 1_000_000.0)).append('\n');
+        }
+        return output.toString();
+    }
+
+    private static void summary(StringBuilder output, List<EndpointSnapshot> endpoints, String name, String help,
+                                Function<EndpointSnapshot, LatencySummary> metric) {
+        output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(name).append(" summary\n");
+        for (EndpointSnapshot endpoint : endpoints) {
+            LatencySummary summary = metric.apply(endpoint);
+            String labels = labels(endpoint);
+            quantile(output, name, labels, "0.5", summary.p50());
+            quantile(output, name, labels, "0.9", summary.p90());
+            quantile(output, name, labels, "0.95", summary.p95());
+            quantile(output, name, labels, "0.99", summary.p99());
+            quantile(output, name, labels, "0.999", summary.p999());
+            output.append(name).append("_sum{").append(labels).append("} ")
+                    .append(seconds(summary.mean() * endpoint.count())).append('\n');
+            output.append(name).append("_count{").append(labels).append("} ").append(endpoint.count()).append('\n');
+        }
+    }
+
+    private static void counter(StringBuilder output, List<EndpointSnapshot> endpoints, String name, String help,
+                                ToLongFunction<EndpointSnapshot> metric) {
+        output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(name).append(" counter\n");
+        for (EndpointSnapshot endpoint : endpoints) {
+            output.append(name).append('{').append(labels(endpoint)).append("} ").append(metric.applyAsLong(endpoint)).append('\n');
+        }
+    }
+
+    private static void quantile(StringBuilder output, String name, String labels, String quantile, double millis) {
+        output.append(name).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                .append(seconds(millis)).append('\n');
+    }
+
+    private static String labels(EndpointSnapshot endpoint) {
+        return "method=\"" + endpoint.method() + "\",route=\"" + endpoint.path() + "\"";
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.6f", millis / 1000.0);
+    }
+
+    private record MetricsFile(List<EndpointSnapshot> endpoints) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.gabriel.metrics;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.replay.ReplayMode;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+public final class PerformanceGate {
+
+    private final double sigmas;
+    private final double slackMillis;
+    private final int minSamples;
+    private final int minRuns;
+    private final List<Double> percentiles;
+
+    public PerformanceGate(double sigmas, double slackMillis, int minSamples, int minRuns, List<Double> percentiles) {
+        if (minRuns < 2) {
+            throw new IllegalArgumentException("O gate precisa de ao menos duas execuções na baseline.");
+        }
+        this.sigmas = sigmas;
+        this.slackMillis = slackMillis;
+        this.minSamples = minSamples;
+        this.minRuns = minRuns;
+        for (double percentile : percentiles) {
+            if (!LatencySummary.RECORDED_PERCENTILES.contains(percentile)) {
+                throw new IllegalArgumentException("Percentil não registrado no gate: " + percentile + ". Use um de "
+                        + LatencySummary.RECORDED_PERCENTILES + ".");
+            }
+        }
+        this.percentiles = List.copyOf(percentiles);
+    }
+
+    public static void main(String[] args) {
+        Path current = Path.of(TestConfig.getMetricsOutputDir(), MetricsExporter.JSON_FILE);
+        Path baselineFile = Path.of(TestConfig.getPerfBaselineFile());
+        if (ReplayMode.from(TestConfig.getReplayMode()).servesFromLog()) {
+            throw new IllegalStateException("Execução com http.replay.mode=" + TestConfig.getReplayMode()
+                    + " não mede a rede e não pode ser comparada nem gravada na baseline.");
+        }
+        if (!Files.exists(current)) {
+            throw new IllegalStateException("Métricas da execução não encontradas em " + current + ".");
+        }
+        LatencyBaseline baseline = Files.exists(baselineFile)
+                ? LatencyBaseline.load(baselineFile)
+                : new LatencyBaseline(List.of());
+        if (TestConfig.isPerfBaselineUpdate()) {
+            LatencyBaseline updated = baseline.append(MetricsExporter.read(current), TestConfig.getPerfBaselineRuns());
+            updated.save(baselineFile);
+            System.out.println("Execução adicionada à baseline " + baselineFile + " (" + updated.runs().size()
+                    + " execuções).");
+            return;
+        }
+
+        PerformanceGate gate = new PerformanceGate(TestConfig.getPerfGateSigmas(), TestConfig.getPerfGateSlackMillis(),
+                TestConfig.getPerfGateMinSamples(), TestConfig.getPerfGateMinRuns(),
+                TestConfig.getPerfGatePercentiles());
+        if (baseline.runs().size() < gate.minRuns) {
+            throw new IllegalStateException("Baseline " + baselineFile + " tem " + baseline.runs().size()
+                    + " execuções, o gate precisa de " + gate.minRuns + ". Grave-as com "
+                    + "mvn verify -Pperf-gate -Dperf.baseline.update=true no mesmo ambiente do CI.");
+        }
+        List<String> regressions = gate.compare(baseline, MetricsExporter.read(current));
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Regressão de desempenho detectada:\n  " + String.join("\n  ", regressions));
+        }
+        System.out.println("Latências dentro da variação da baseline " + baselineFile + ".");
+    }
+
+    // Limit per route and percentile: mean of the baseline runs plus `sigmas` sample standard deviations, never
+    // tighter than mean + slack, so a baseline that happens to have almost no spread does not flag plain noise.
+    public List<String> compare(LatencyBaseline baseline, List<EndpointSnapshot> current) {
+        List<String> regressions = new ArrayList<>();
+        for (EndpointSnapshot endpoint : current) {
+            for (double percentile : percentiles) {
+                if (!hasEnoughSamples(endpoint, percentile)) {
+                    continue;
+                }
+                double[] reference = baseline.runs().stream()
+                        .map(run -> find(run, endpoint.route()))
+                        .flatMap(Optional::stream)
+                        .filter(snapshot -> hasEnoughSamples(snapshot, percentile))
+                        .mapToDouble(snapshot -> snapshot.latency().percentile(percentile))
+                        .toArray();
+                if (reference.length < minRuns) {
+                    continue;
+                }
+                double mean = mean(reference);
+                double deviation = standardDeviation(reference, mean);
+                double limit = Math.max(mean + sigmas * deviation, mean + slackMillis);
+                double actual = endpoint.latency().percentile(percentile);
+                if (actual > limit) {
+                    regressions.add(String.format(Locale.ROOT,
+                            "%s p%.0f = %.3f ms (baseline %.3f ± %.3f ms em %d execuções, limite %.3f ms)",
+                            endpoint.route(), percentile, actual, mean, deviation, reference.length, limit));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    private boolean hasEnoughSamples(EndpointSnapshot endpoint, double percentile) {
+        return endpoint.count() >= Math.max(minSamples, LatencySummary.samplesFor(percentile));
+    }
+
+    private static Optional<EndpointSnapshot> find(LatencyBaseline.Run run, String route) {
+        return run.endpoints().stream().filter(snapshot -> snapshot.route().equals(route)).findFirst();
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double standardDeviation(double[] values, double mean) {
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(squares / (values.length - 1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.gabriel.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public final class RequestMetrics {
+
+    private static final RequestMetrics SHARED = new RequestMetrics();
+    private static final ThreadLocal<RequestMetrics> SCOPE = new ThreadLocal<>();
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public static RequestMetrics shared() {
+        return SHARED;
+    }
+
+    public static RequestMetrics openScope() {
+        RequestMetrics scope = new RequestMetrics();
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    public static Optional<RequestMetrics> currentScope() {
+        return Optional.ofNullable(SCOPE.get());
+    }
+
+    public static void closeScope() {
+        SCOPE.remove();
+    }
+
+    public static <T> Supplier<T> propagateScope(Supplier<T> task) {
+        RequestMetrics scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            SCOPE.set(scope);
+            try {
+                return task.get();
+            } finally {
+                SCOPE.remove();
+            }
+        };
+    }
+
+    public void record(String route, long totalNanos, long firstByteNanos, long connectNanos,
+                       long requestBytes, long responseBytes, boolean failed) {
+        record(route, totalNanos, firstByteNanos, connectNanos, requestBytes, responseBytes, requestBytes,
+                responseBytes, 0, failed);
+    }
+
+    public void record(String route, long totalNanos, long firstByteNanos, long connectNanos,
+                       long requestBytes, long responseBytes, long requestWireBytes, long responseWireBytes,
+                       long compressionNanos, boolean failed) {
+        endpoints.computeIfAbsent(route, EndpointMetrics::new).record(totalNanos, firstByteNanos, connectNanos,
+                requestBytes, responseBytes, requestWireBytes, responseWireBytes, compressionNanos, failed);
+    }
+
+    public List<EndpointSnapshot> snapshot() {
+        return endpoints.values().stream()
+                .map(EndpointMetrics::snapshot)
+                .sorted(Comparator.comparing(EndpointSnapshot::route))
+                .toList();
+    }
+
+    public Optional<EndpointSnapshot> snapshot(String route) {
+        return Optional.ofNullable(endpoints.get(route)).map(EndpointMetrics::snapshot);
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.gabriel.metrics;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.http.ResilientCaller;
+import com.gabriel.http.ResponseCache;
+import com.gabriel.http.ResponseCacheStats;
+import com.gabriel.http.RouteCallStats;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class RequestMetricsExportListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        List<EndpointSnapshot> endpoints = RequestMetrics.shared().snapshot();
+        if (!endpoints.isEmpty()) {
+            MetricsExporter.export(Path.of(TestConfig.getMetricsOutputDir()), endpoints);
+        }
+        ResponseCacheStats cacheStats = ResponseCache.shared().stats();
+        if (cacheStats.requests() > 0) {
+            MetricsExporter.exportCache(Path.of(TestConfig.getMetricsOutputDir()), cacheStats);
+        }
+        List<RouteCallStats> routeCalls = ResilientCaller.shared().stats();
+        if (!routeCalls.isEmpty()) {
+            MetricsExporter.exportRouteCalls(Path.of(TestConfig.getMetricsOutputDir()), routeCalls);
+        }
+    }
+}
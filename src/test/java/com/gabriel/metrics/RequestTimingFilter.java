@@ -0,0 +1,71 @@
+package com.gabriel.metrics;
+
+import com.gabriel.http.ExchangeTimings;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+public final class RequestTimingFilter implements OrderedFilter {
+
+    private final RequestMetrics metrics;
+
+    public RequestTimingFilter(RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        ExchangeTimings timings = ExchangeTimings.current();
+        timings.reset();
+        long requestBytes = bodySize(requestSpec.getBody());
+        long started = System.nanoTime();
+        Response response = null;
+        try {
+            response = context.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            if (!timings.servedLocally()) {
+                record(requestSpec, timings, requestBytes, started, response);
+            }
+        }
+    }
+
+    private void record(FilterableRequestSpecification requestSpec, ExchangeTimings timings, long requestBytes,
+                        long started, Response response) {
+        long finished = System.nanoTime();
+        long firstByteAt = timings.firstByteAt() == 0 ? finished : timings.firstByteAt();
+        String route = routeOf(requestSpec);
+        boolean failed = response == null || response.statusCode() >= 500;
+        metrics.record(route, finished - started, firstByteAt - started, timings.connectNanos(),
+                requestBytes, timings.responseBytes(), timings.requestWireBytes(), timings.responseWireBytes(),
+                timings.compressionNanos(), failed);
+        RequestMetrics.currentScope().ifPresent(scope -> scope.record(route, finished - started,
+                firstByteAt - started, timings.connectNanos(), requestBytes, timings.responseBytes(),
+                timings.requestWireBytes(), timings.responseWireBytes(), timings.compressionNanos(), failed));
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    public static String routeOf(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        return requestSpec.getMethod() + " " + (path == null || path.isEmpty() ? "/" : path);
+    }
+
+    private static long bodySize(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
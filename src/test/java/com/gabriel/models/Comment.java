@@ -0,0 +1,7 @@
+package com.gabriel.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Comment(Integer postId, Integer id, String name, String email, String body) {
+}
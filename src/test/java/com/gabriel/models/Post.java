@@ -0,0 +1,7 @@
+package com.gabriel.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Post(Integer userId, Integer id, String title, String body) {
+}
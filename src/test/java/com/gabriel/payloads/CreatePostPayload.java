@@ -0,0 +1,4 @@
+package com.gabriel.payloads;
+
+public record CreatePostPayload(String title, String body, int userId) implements JsonPayload {
+}
@@ -0,0 +1,8 @@
+package com.gabriel.payloads;
+
+public interface JsonPayload {
+
+    default byte[] toJson() {
+        return PayloadWriters.write(this);
+    }
+}
@@ -0,0 +1,4 @@
+package com.gabriel.payloads;
+
+public record PatchPostPayload(String title) implements JsonPayload {
+}
@@ -0,0 +1,27 @@
+package com.gabriel.payloads;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+final class PayloadWriters {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return OBJECT_MAPPER.writerFor(type);
+        }
+    };
+
+    private PayloadWriters() {
+    }
+
+    static byte[] write(JsonPayload payload) {
+        try {
+            return WRITERS.get(payload.getClass()).writeValueAsBytes(payload);
+        } catch (JsonProcessingException error) {
+            throw new IllegalStateException("Falha ao serializar payload " + payload.getClass().getSimpleName() + ".", error);
+        }
+    }
+}
@@ -1,30 +1,19 @@
 package com.gabriel.payloads;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public final class PostPayload {
 
     private PostPayload() {
     }
 
-    public static Map<String, Object> create(String title, String body, int userId) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("title", title);
-        payload.put("body", body);
-        payload.put("userId", userId);
-        return payload;
+    public static CreatePostPayload create(String title, String body, int userId) {
+        return new CreatePostPayload(title, body, userId);
     }
 
-    public static Map<String, Object> update(int id, String title, String body, int userId) {
-        Map<String, Object> payload = create(title, body, userId);
-        payload.put("id", id);
-        return payload;
+    public static UpdatePostPayload update(int id, String title, String body, int userId) {
+        return new UpdatePostPayload(id, title, body, userId);
     }
 
-    public static Map<String, Object> patch(String title) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("title", title);
-        return payload;
+    public static PatchPostPayload patch(String title) {
+        return new PatchPostPayload(title);
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.gabriel.replay;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record Interaction(String key, int status, Map<String, String> headers, JsonNode json, String text) {
+}
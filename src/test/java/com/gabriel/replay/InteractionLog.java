@@ -0,0 +1,160 @@
+package com.gabriel.replay;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+final class InteractionLog {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final byte NEW_LINE = '\n';
+
+    private final Path file;
+    private final Set<String> recordedKeys = new HashSet<>();
+    private MappedByteBuffer mapped;
+    private Map<String, long[]> index;
+    private OutputStream writer;
+    private Path pending;
+
+    InteractionLog(Path file) {
+        this.file = file;
+    }
+
+    synchronized Optional<Interaction> find(String key) {
+        if (index == null) {
+            open();
+        }
+        long[] slice = index.get(key);
+        if (slice == null) {
+            return Optional.empty();
+        }
+        byte[] line = new byte[(int) slice[1]];
+        mapped.get((int) slice[0], line);
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(line, Interaction.class));
+        } catch (IOException error) {
+            throw new UncheckedIOException("Interação corrompida no log " + file + ": " + key, error);
+        }
+    }
+
+    synchronized int size() {
+        if (index == null) {
+            open();
+        }
+        return index.size();
+    }
+
+    synchronized void append(Interaction interaction) {
+        if (!recordedKeys.add(interaction.key())) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                Path parent = Files.createDirectories(file.toAbsolutePath().getParent());
+                pending = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+                writer = new BufferedOutputStream(Files.newOutputStream(pending));
+            }
+            writer.write(OBJECT_MAPPER.writeValueAsBytes(interaction));
+            writer.write(NEW_LINE);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar interação em " + file + ".", error);
+        }
+    }
+
+    // Recording goes to a temp file next to the log and only replaces it here, so a failed or interrupted
+    // recording run leaves the committed fixture untouched.
+    synchronized void commit() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            Files.move(pending, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao salvar interações gravadas em " + file + ".", error);
+        } finally {
+            writer = null;
+            pending = null;
+            recordedKeys.clear();
+            index = null;
+            mapped = null;
+        }
+    }
+
+    private void open() {
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("Log de interações não encontrado: " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao mapear log de interações " + file + ".", error);
+        }
+        index = buildIndex();
+    }
+
+    // Only the leading "key" field of each line is parsed here; the rest of the line stays in the mapped file
+    // until a lookup asks for it.
+    private Map<String, long[]> buildIndex() {
+        Map<String, long[]> lines = new HashMap<>();
+        int limit = mapped.limit();
+        int start = 0;
+        byte[] buffer = new byte[256];
+        while (start < limit) {
+            int end = start;
+            while (end < limit && mapped.get(end) != NEW_LINE) {
+                end++;
+            }
+            int length = end - start;
+            if (length > 0) {
+                int keyLength = Math.min(length, buffer.length);
+                mapped.get(start, buffer, 0, keyLength);
+                lines.putIfAbsent(readKey(buffer, keyLength, start, length), new long[]{start, length});
+            }
+            start = end + 1;
+        }
+        return lines;
+    }
+
+    private String readKey(byte[] prefix, int prefixLength, int offset, int lineLength) {
+        try {
+            return parseKey(prefix, prefixLength, offset);
+        } catch (IOException truncated) {
+            byte[] line = new byte[lineLength];
+            mapped.get(offset, line);
+            try {
+                return parseKey(line, lineLength, offset);
+            } catch (IOException error) {
+                throw new UncheckedIOException("Linha inválida no log " + file + " (offset " + offset + ").", error);
+            }
+        }
+    }
+
+    private String parseKey(byte[] bytes, int length, int offset) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(bytes, 0, length)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && "key".equals(parser.currentName())
+                    && parser.nextToken() == JsonToken.VALUE_STRING) {
+                return parser.getText();
+            }
+        }
+        throw new IllegalStateException("Linha sem chave no log " + file + " (offset " + offset + ").");
+    }
+}
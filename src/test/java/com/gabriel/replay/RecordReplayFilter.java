@@ -0,0 +1,165 @@
+package com.gabriel.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gabriel.config.TestConfig;
+import com.gabriel.http.ExchangeTimings;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class RecordReplayFilter implements OrderedFilter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private static final RecordReplayFilter SHARED = new RecordReplayFilter(
+            ReplayMode.from(TestConfig.getReplayMode()), Path.of(TestConfig.getReplayFile()));
+
+    private final ReplayMode mode;
+    private final InteractionLog log;
+
+    public RecordReplayFilter(ReplayMode mode, Path file) {
+        this.mode = mode;
+        this.log = new InteractionLog(file);
+    }
+
+    public static RecordReplayFilter shared() {
+        return SHARED;
+    }
+
+    public ReplayMode mode() {
+        return mode;
+    }
+
+    public int recordedInteractions() {
+        return log.size();
+    }
+
+    public void finish() {
+        log.commit();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        String key = keyOf(requestSpec);
+        if (mode.servesFromLog()) {
+            Optional<Interaction> recorded = log.find(key);
+            if (recorded.isPresent()) {
+                ExchangeTimings.current().markServedLocally();
+                return toResponse(recorded.get());
+            }
+            if (mode == ReplayMode.STRICT) {
+                throw new IllegalStateException("Requisição não encontrada no log de replay: " + key);
+            }
+        }
+
+        Response response = context.next(requestSpec, responseSpec);
+        if (mode == ReplayMode.RECORD) {
+            log.append(toInteraction(key, response));
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 2;
+    }
+
+    public static String keyOf(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            String[] parameters = uri.getRawQuery().split("&");
+            Arrays.sort(parameters);
+            key.append('?').append(String.join("&", parameters));
+        }
+        String body = normalizeBody(requestSpec.getBody());
+        if (body != null) {
+            key.append(' ').append(body);
+        }
+        return key.toString();
+    }
+
+    private static String normalizeBody(Object body) {
+        byte[] bytes;
+        if (body instanceof byte[] raw) {
+            bytes = raw;
+        } else if (body instanceof String text) {
+            bytes = text.getBytes(StandardCharsets.UTF_8);
+        } else if (body == null) {
+            return null;
+        } else {
+            return body.toString();
+        }
+        try {
+            return CANONICAL_MAPPER.writeValueAsString(CANONICAL_MAPPER.readValue(bytes, Object.class));
+        } catch (IOException error) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Interaction toInteraction(String key, Response response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.headers()) {
+            if (!"Date".equalsIgnoreCase(header.getName()) && !"Content-Length".equalsIgnoreCase(header.getName())) {
+                headers.put(header.getName(), header.getValue());
+            }
+        }
+        byte[] body = response.asByteArray();
+        JsonNode json = null;
+        String text = null;
+        try {
+            json = body.length == 0 ? null : OBJECT_MAPPER.readTree(body);
+        } catch (IOException error) {
+            text = new String(body, StandardCharsets.UTF_8);
+        }
+        return new Interaction(key, response.statusCode(), headers, json, text);
+    }
+
+    private static String contentTypeOf(Interaction interaction) {
+        return interaction.headers().entrySet().stream()
+                .filter(header -> "Content-Type".equalsIgnoreCase(header.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse("");
+    }
+
+    private static Response toResponse(Interaction interaction) {
+        List<Header> headers = new ArrayList<>();
+        interaction.headers().forEach((name, value) -> headers.add(new Header(name, value)));
+        byte[] body;
+        try {
+            body = interaction.json() != null
+                    ? OBJECT_MAPPER.writeValueAsBytes(interaction.json())
+                    : interaction.text() == null ? new byte[0] : interaction.text().getBytes(StandardCharsets.UTF_8);
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao montar resposta gravada: " + interaction.key(), error);
+        }
+        return new ResponseBuilder()
+                .setStatusCode(interaction.status())
+                .setStatusLine("HTTP/1.1 " + interaction.status())
+                .setHeaders(new Headers(headers))
+                .setContentType(contentTypeOf(interaction))
+                .setBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.gabriel.replay;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+public class RecordReplayFinishListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        RecordReplayFilter.shared().finish();
+    }
+}
@@ -0,0 +1,22 @@
+package com.gabriel.replay;
+
+import java.util.Locale;
+
+public enum ReplayMode {
+    OFF,
+    RECORD,
+    REPLAY,
+    STRICT;
+
+    public static ReplayMode from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException error) {
+            throw new IllegalArgumentException("Modo de replay desconhecido: " + value, error);
+        }
+    }
+
+    public boolean servesFromLog() {
+        return this == REPLAY || this == STRICT;
+    }
+}
@@ -0,0 +1,60 @@
+package com.gabriel.reports;
+
+import java.util.List;
+import java.util.Locale;
+
+public record AggregatedReport(int run, int files, long tests, long failures, long skipped, double totalSeconds,
+                               List<TestTiming> slowest, List<Regression> regressions, List<FlakyTest> flaky) {
+
+    public AggregatedReport {
+        slowest = List.copyOf(slowest);
+        regressions = List.copyOf(regressions);
+        flaky = List.copyOf(flaky);
+    }
+
+    public record TestTiming(String key, long millis, TestCaseResult.Status status) {
+    }
+
+    public record Regression(String key, long baselineMillis, long currentMillis, int samples) {
+
+        public double ratio() {
+            return baselineMillis == 0 ? Double.POSITIVE_INFINITY : (double) currentMillis / baselineMillis;
+        }
+    }
+
+    public record FlakyTest(String key, int flips, int failures, int runs, String outcomes) {
+    }
+
+    public String format() {
+        StringBuilder output = new StringBuilder();
+        output.append(String.format(Locale.ROOT,
+                "Execução #%d: %d relatório(s), %d teste(s), %d falha(s), %d ignorado(s), %.2f s%n",
+                run, files, tests, failures, skipped, totalSeconds));
+
+        output.append(String.format(Locale.ROOT, "%nTestes mais lentos:%n"));
+        for (TestTiming timing : slowest) {
+            output.append(String.format(Locale.ROOT, "  %8d ms  %-7s %s%n", timing.millis(), timing.status(),
+                    timing.key()));
+        }
+
+        output.append(String.format(Locale.ROOT, "%nRegressões de duração:%n"));
+        if (regressions.isEmpty()) {
+            output.append(String.format(Locale.ROOT, "  nenhuma%n"));
+        }
+        for (Regression regression : regressions) {
+            output.append(String.format(Locale.ROOT, "  %s: %d ms -> %d ms (%.1fx a mediana de %d execuções)%n",
+                    regression.key(), regression.baselineMillis(), regression.currentMillis(), regression.ratio(),
+                    regression.samples()));
+        }
+
+        output.append(String.format(Locale.ROOT, "%nTestes instáveis (alternam entre passar e falhar):%n"));
+        if (flaky.isEmpty()) {
+            output.append(String.format(Locale.ROOT, "  nenhum%n"));
+        }
+        for (FlakyTest test : flaky) {
+            output.append(String.format(Locale.ROOT, "  %s: %d alternância(s), %d falha(s) em %d execuções [%s]%n",
+                    test.key(), test.flips(), test.failures(), test.runs(), test.outcomes()));
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,188 @@
+package com.gabriel.reports;
+
+import com.gabriel.config.TestConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+public final class ReportAggregator {
+
+    private final int slowestCount;
+    private final double regressionFactor;
+    private final long regressionMinDeltaMillis;
+    private final int regressionMinSamples;
+    private final int flakyMinFlips;
+
+    public ReportAggregator(int slowestCount, double regressionFactor, long regressionMinDeltaMillis,
+                            int regressionMinSamples, int flakyMinFlips) {
+        this.slowestCount = slowestCount;
+        this.regressionFactor = regressionFactor;
+        this.regressionMinDeltaMillis = regressionMinDeltaMillis;
+        this.regressionMinSamples = regressionMinSamples;
+        this.flakyMinFlips = flakyMinFlips;
+    }
+
+    public static ReportAggregator fromConfig() {
+        return new ReportAggregator(TestConfig.getReportSlowestCount(), TestConfig.getReportRegressionFactor(),
+                TestConfig.getReportRegressionMinDeltaMillis(), TestConfig.getReportRegressionMinSamples(),
+                TestConfig.getReportFlakyMinFlips());
+    }
+
+    public static void main(String[] args) {
+        Path reports = Path.of(args.length == 0 ? TestConfig.getReportInputDir() : args[0]);
+        Path historyDirectory = Path.of(TestConfig.getReportHistoryDir());
+        TestHistory history = TestHistory.load(historyDirectory, TestConfig.getReportHistoryWindow());
+
+        AggregatedReport report = fromConfig().aggregate(reports, history);
+        history.save(historyDirectory);
+        String text = report.format();
+        System.out.print(text);
+        try {
+            Path output = Path.of(TestConfig.getReportOutputFile());
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, text);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar relatório consolidado.", error);
+        }
+        if (report.failures() > 0 && TestConfig.isReportFailOnFailures()) {
+            throw new IllegalStateException(report.failures() + " teste(s) falharam na execução #" + report.run() + ".");
+        }
+    }
+
+    // Reads the reports as one run, compares it with the history recorded so far and then appends it. Only the
+    // per-test totals of the current run are held in memory, never the report files themselves.
+    public AggregatedReport aggregate(Path reportsDirectory, TestHistory history) {
+        Map<String, RunTotals> run = new HashMap<>();
+        int files = SurefireReportReader.forEachTestCase(reportsDirectory,
+                testCase -> run.computeIfAbsent(testCase.key(), key -> new RunTotals()).add(testCase));
+        if (files == 0) {
+            throw new IllegalStateException("Nenhum relatório TEST-*.xml encontrado em " + reportsDirectory + ".");
+        }
+
+        PriorityQueue<AggregatedReport.TestTiming> slowest =
+                new PriorityQueue<>(Comparator.comparingLong(AggregatedReport.TestTiming::millis));
+        List<AggregatedReport.Regression> regressions = new ArrayList<>();
+        Map<String, TestHistory.Sample> samples = new HashMap<>();
+        long failures = 0;
+        long skipped = 0;
+        long totalMillis = 0;
+        for (Map.Entry<String, RunTotals> entry : run.entrySet()) {
+            TestHistory.Sample sample = entry.getValue().sample();
+            samples.put(entry.getKey(), sample);
+            totalMillis += sample.millis();
+            if (isFailure(sample.status())) {
+                failures++;
+            } else if (sample.status() == TestCaseResult.Status.SKIPPED) {
+                skipped++;
+            }
+            slowest.add(new AggregatedReport.TestTiming(entry.getKey(), sample.millis(), sample.status()));
+            if (slowest.size() > slowestCount) {
+                slowest.poll();
+            }
+            regression(entry.getKey(), sample, history.samples(entry.getKey())).ifPresent(regressions::add);
+        }
+
+        history.record(samples);
+        List<AggregatedReport.FlakyTest> flaky = new ArrayList<>();
+        for (String key : samples.keySet()) {
+            flaky(key, history.samples(key)).ifPresent(flaky::add);
+        }
+
+        List<AggregatedReport.TestTiming> slowestFirst = new ArrayList<>(slowest);
+        slowestFirst.sort(Comparator.comparingLong(AggregatedReport.TestTiming::millis).reversed()
+                .thenComparing(AggregatedReport.TestTiming::key));
+        regressions.sort(Comparator.comparingDouble(AggregatedReport.Regression::ratio).reversed()
+                .thenComparing(AggregatedReport.Regression::key));
+        flaky.sort(Comparator.comparingInt(AggregatedReport.FlakyTest::flips).reversed()
+                .thenComparing(AggregatedReport.FlakyTest::key));
+        return new AggregatedReport(history.runs(), files, run.size(), failures, skipped, totalMillis / 1000.0,
+                slowestFirst, regressions, flaky);
+    }
+
+    // The baseline is the median of earlier passing runs: one slow outlier in the window does not move it.
+    private Optional<AggregatedReport.Regression> regression(String key, TestHistory.Sample current,
+                                                             List<TestHistory.Sample> previous) {
+        if (current.status() != TestCaseResult.Status.PASSED) {
+            return Optional.empty();
+        }
+        long[] durations = previous.stream()
+                .filter(sample -> sample.status() == TestCaseResult.Status.PASSED)
+                .mapToLong(TestHistory.Sample::millis)
+                .sorted()
+                .toArray();
+        if (durations.length < regressionMinSamples) {
+            return Optional.empty();
+        }
+        long median = durations[durations.length / 2];
+        if (current.millis() - median < regressionMinDeltaMillis || current.millis() < median * regressionFactor) {
+            return Optional.empty();
+        }
+        return Optional.of(new AggregatedReport.Regression(key, median, current.millis(), durations.length));
+    }
+
+    // A flip is a change between passing and failing across consecutive non-skipped runs; a test that broke once
+    // and stayed broken has a single flip and is reported as a failure, not as flaky.
+    private Optional<AggregatedReport.FlakyTest> flaky(String key, List<TestHistory.Sample> samples) {
+        StringBuilder outcomes = new StringBuilder();
+        int flips = 0;
+        int failures = 0;
+        int runs = 0;
+        Boolean previousFailed = null;
+        for (TestHistory.Sample sample : samples) {
+            outcomes.append(sample.status().name().charAt(0));
+            if (sample.status() == TestCaseResult.Status.SKIPPED) {
+                continue;
+            }
+            boolean failed = isFailure(sample.status());
+            runs++;
+            failures += failed ? 1 : 0;
+            if (previousFailed != null && previousFailed != failed) {
+                flips++;
+            }
+            previousFailed = failed;
+        }
+        return flips >= flakyMinFlips
+                ? Optional.of(new AggregatedReport.FlakyTest(key, flips, failures, runs, outcomes.toString()))
+                : Optional.empty();
+    }
+
+    private static boolean isFailure(TestCaseResult.Status status) {
+        return status == TestCaseResult.Status.FAILED || status == TestCaseResult.Status.ERROR;
+    }
+
+    // Parameterized invocations share a key: their durations add up and the worst outcome wins.
+    private static final class RunTotals {
+
+        private double seconds;
+        private TestCaseResult.Status status;
+
+        private void add(TestCaseResult testCase) {
+            seconds += testCase.seconds();
+            if (status == null || severity(testCase.status()) > severity(status)) {
+                status = testCase.status();
+            }
+        }
+
+        private TestHistory.Sample sample() {
+            return new TestHistory.Sample(status, Math.round(seconds * 1000));
+        }
+
+        private static int severity(TestCaseResult.Status status) {
+            return switch (status) {
+                case SKIPPED -> 0;
+                case PASSED -> 1;
+                case FAILED -> 2;
+                case ERROR -> 3;
+            };
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.gabriel.reports;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public final class SurefireReportReader {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private SurefireReportReader() {
+    }
+
+    public static List<TestSuiteResult> readDirectory(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(SurefireReportReader::isReport)
+                    .sorted()
+                    .map(SurefireReportReader::read)
+                    .toList();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao listar relatórios em " + directory + ".", error);
+        }
+    }
+
+    public static TestSuiteResult read(Path file) {
+        List<TestCaseResult> testCases = new ArrayList<>();
+        SuiteHeader header = read(file, testCases::add);
+        return new TestSuiteResult(header.name(), header.seconds(), testCases);
+    }
+
+    // Hands each test case to the action as soon as its element closes and keeps nothing else, so any number of
+    // report files can be scanned in constant memory. Returns the number of files read.
+    public static int forEachTestCase(Path directory, Consumer<? super TestCaseResult> action) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            int[] count = {0};
+            files.filter(SurefireReportReader::isReport).sorted().forEachOrdered(file -> {
+                read(file, action);
+                count[0]++;
+            });
+            return count[0];
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao listar relatórios em " + directory + ".", error);
+        }
+    }
+
+    // Streams the file with StAX so the large <properties> and <system-out> blocks are skipped, not held in memory.
+    private static SuiteHeader read(Path file, Consumer<? super TestCaseResult> action) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                return readSuite(reader, action);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao ler relatório " + file + ".", error);
+        } catch (XMLStreamException error) {
+            throw new IllegalStateException("Relatório inválido: " + file, error);
+        }
+    }
+
+    private static SuiteHeader readSuite(XMLStreamReader reader, Consumer<? super TestCaseResult> action)
+            throws XMLStreamException {
+        String suiteName = null;
+        double suiteSeconds = 0;
+
+        String className = null;
+        String name = null;
+        double seconds = 0;
+        TestCaseResult.Status status = null;
+        String message = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "testsuite" -> {
+                        suiteName = reader.getAttributeValue(null, "name");
+                        suiteSeconds = parseSeconds(reader.getAttributeValue(null, "time"));
+                    }
+                    case "testcase" -> {
+                        className = reader.getAttributeValue(null, "classname");
+                        name = reader.getAttributeValue(null, "name");
+                        seconds = parseSeconds(reader.getAttributeValue(null, "time"));
+                        status = TestCaseResult.Status.PASSED;
+                        message = null;
+                    }
+                    case "failure" -> {
+                        status = TestCaseResult.Status.FAILED;
+                        message = reader.getAttributeValue(null, "message");
+                    }
+                    case "error" -> {
+                        status = TestCaseResult.Status.ERROR;
+                        message = reader.getAttributeValue(null, "message");
+                    }
+                    case "skipped" -> {
+                        status = TestCaseResult.Status.SKIPPED;
+                        message = reader.getAttributeValue(null, "message");
+                    }
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamReader.END_ELEMENT && "testcase".equals(reader.getLocalName())) {
+                action.accept(new TestCaseResult(className, name, seconds, status, message));
+                status = null;
+            }
+        }
+        return new SuiteHeader(suiteName, suiteSeconds);
+    }
+
+    private static boolean isReport(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.startsWith("TEST-") && fileName.endsWith(".xml");
+    }
+
+    private static double parseSeconds(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        return Double.parseDouble(value.replace(",", ""));
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private record SuiteHeader(String name, double seconds) {
+    }
+}
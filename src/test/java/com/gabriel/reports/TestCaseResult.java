@@ -0,0 +1,20 @@
+package com.gabriel.reports;
+
+public record TestCaseResult(String className, String name, double seconds, Status status, String message) {
+
+    public enum Status {
+        PASSED,
+        FAILED,
+        ERROR,
+        SKIPPED
+    }
+
+    public String methodName() {
+        int parameters = name.indexOf('(');
+        return parameters < 0 ? name : name.substring(0, parameters);
+    }
+
+    public String key() {
+        return className + "#" + methodName();
+    }
+}
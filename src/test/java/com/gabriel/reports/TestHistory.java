@@ -0,0 +1,163 @@
+package com.gabriel.reports;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// One line per test with its last `window` outcomes and durations: "key<TAB>lastRun<TAB>P:120 F:3400 ...".
+// Plain text keeps it diffable; the window bounds its size no matter how many runs are recorded.
+public final class TestHistory {
+
+    public static final String FILE_NAME = "history.tsv";
+
+    private static final String RUNS_HEADER = "#runs";
+
+    private final int window;
+    private final int forgetAfterRuns;
+    private final Map<String, Entry> entries = new TreeMap<>();
+    private int runs;
+
+    private TestHistory(int window) {
+        if (window <= 1) {
+            throw new IllegalArgumentException("Janela do histórico precisa de ao menos duas execuções.");
+        }
+        this.window = window;
+        this.forgetAfterRuns = window * 5;
+    }
+
+    public record Sample(TestCaseResult.Status status, long millis) {
+
+        String encode() {
+            return status.name().charAt(0) + ":" + millis;
+        }
+
+        static Sample decode(String value) {
+            TestCaseResult.Status status = switch (value.charAt(0)) {
+                case 'P' -> TestCaseResult.Status.PASSED;
+                case 'F' -> TestCaseResult.Status.FAILED;
+                case 'E' -> TestCaseResult.Status.ERROR;
+                case 'S' -> TestCaseResult.Status.SKIPPED;
+                default -> throw new IllegalStateException("Amostra inválida no histórico: " + value);
+            };
+            return new Sample(status, Long.parseLong(value.substring(2)));
+        }
+    }
+
+    public static TestHistory empty(int window) {
+        return new TestHistory(window);
+    }
+
+    public static TestHistory load(Path directory, int window) {
+        TestHistory history = new TestHistory(window);
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return history;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (RUNS_HEADER.equals(columns[0])) {
+                    history.runs = Integer.parseInt(columns[1]);
+                    continue;
+                }
+                Entry entry = new Entry(Integer.parseInt(columns[1]));
+                if (columns.length > 2) {
+                    for (String sample : columns[2].split(" ")) {
+                        entry.add(Sample.decode(sample), window);
+                    }
+                }
+                history.entries.put(columns[0], entry);
+            }
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao ler histórico de testes " + file + ".", error);
+        } catch (RuntimeException error) {
+            throw new IllegalStateException("Histórico de testes inválido: " + file, error);
+        }
+        return history;
+    }
+
+    public int runs() {
+        return runs;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<String> keys() {
+        return List.copyOf(entries.keySet());
+    }
+
+    public List<Sample> samples(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? List.of() : List.copyOf(entry.samples);
+    }
+
+    // Tests missing from the run keep their samples; they are dropped only after forgetAfterRuns runs unseen.
+    public void record(Map<String, Sample> run) {
+        runs++;
+        run.forEach((key, sample) -> {
+            Entry entry = entries.computeIfAbsent(key, ignored -> new Entry(runs));
+            entry.lastRun = runs;
+            entry.add(sample, window);
+        });
+        entries.values().removeIf(entry -> runs - entry.lastRun >= forgetAfterRuns);
+    }
+
+    public void save(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(RUNS_HEADER + "\t" + runs);
+                writer.newLine();
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    List<String> samples = new ArrayList<>();
+                    entry.getValue().samples.forEach(sample -> samples.add(sample.encode()));
+                    writer.write(entry.getKey() + "\t" + entry.getValue().lastRun + "\t" + String.join(" ", samples));
+                    writer.newLine();
+                }
+            }
+            Files.move(temporary, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar histórico de testes em " + directory + ".", error);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Deque<Sample> samples = new ArrayDeque<>();
+        private int lastRun;
+
+        private Entry(int lastRun) {
+            this.lastRun = lastRun;
+        }
+
+        private void add(Sample sample, int window) {
+            samples.addLast(sample);
+            while (samples.size() > window) {
+                samples.removeFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.gabriel.reports;
+
+import java.util.List;
+
+public record TestSuiteResult(String name, double seconds, List<TestCaseResult> testCases) {
+
+    public TestSuiteResult {
+        testCases = List.copyOf(testCases);
+    }
+
+    public long count(TestCaseResult.Status status) {
+        return testCases.stream().filter(testCase -> testCase.status() == status).count();
+    }
+}
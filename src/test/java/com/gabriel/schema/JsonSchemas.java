@@ -0,0 +1,87 @@
+package com.gabriel.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class JsonSchemas {
+
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    private static final Map<String, JsonSchema> COMPILED = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+    }
+
+    public static JsonSchema get(String name) {
+        return COMPILED.computeIfAbsent(name, JsonSchemas::compile);
+    }
+
+    public static SchemaReport validate(String name, JsonNode document) {
+        List<String> violations = new ArrayList<>();
+        long count = collect(get(name).validate(document), "", violations);
+        return new SchemaReport(name, 1, count, violations);
+    }
+
+    // Only the element being checked is materialized, so memory stays flat no matter how long the array is.
+    public static SchemaReport validateArray(String name, InputStream inputStream) {
+        JsonSchema schema = get(name);
+        List<String> violations = new ArrayList<>();
+        long count = 0;
+        int elements = 0;
+        try (JsonParser parser = OBJECT_MAPPER.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Resposta não é um array JSON para o schema " + name + ".");
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new IllegalStateException("Array JSON incompleto após " + elements + " elemento(s).");
+                }
+                JsonNode element = OBJECT_MAPPER.readTree(parser);
+                count += collect(schema.validate(element), "[" + elements + "]", violations);
+                elements++;
+            }
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao ler array JSON para o schema " + name + ".", error);
+        }
+        return new SchemaReport(name, elements, count, violations);
+    }
+
+    private static long collect(Set<ValidationMessage> messages, String prefix, List<String> violations) {
+        for (ValidationMessage message : messages) {
+            if (violations.size() == MAX_REPORTED_VIOLATIONS) {
+                break;
+            }
+            violations.add(prefix.isEmpty() ? message.getMessage() : prefix + " " + message.getMessage());
+        }
+        return messages.size();
+    }
+
+    private static JsonSchema compile(String name) {
+        String resource = "schemas/" + name + ".schema.json";
+        if (JsonSchemas.class.getClassLoader().getResource(resource) == null) {
+            throw new IllegalArgumentException("Schema não encontrado no classpath: " + resource);
+        }
+        JsonSchema schema = FACTORY.getSchema(SchemaLocation.of("classpath:" + resource));
+        schema.initializeValidators();
+        return schema;
+    }
+}
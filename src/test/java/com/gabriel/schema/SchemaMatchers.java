@@ -0,0 +1,48 @@
+package com.gabriel.schema;
+
+import com.gabriel.endpoints.ApiResponse;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.io.ByteArrayInputStream;
+import java.util.function.Function;
+
+public final class SchemaMatchers {
+
+    private SchemaMatchers() {
+    }
+
+    public static Matcher<ApiResponse> matchesSchema(String name) {
+        return new SchemaMatcher("corpo compatível com o schema " + name,
+                response -> JsonSchemas.validate(name, response.tree()));
+    }
+
+    public static Matcher<ApiResponse> everyElementMatchesSchema(String name) {
+        return new SchemaMatcher("array com todos os elementos compatíveis com o schema " + name,
+                response -> JsonSchemas.validateArray(name, new ByteArrayInputStream(response.body())));
+    }
+
+    private static final class SchemaMatcher extends TypeSafeDiagnosingMatcher<ApiResponse> {
+
+        private final String expectation;
+        private final Function<ApiResponse, SchemaReport> validation;
+
+        private SchemaMatcher(String expectation, Function<ApiResponse, SchemaReport> validation) {
+            this.expectation = expectation;
+            this.validation = validation;
+        }
+
+        @Override
+        protected boolean matchesSafely(ApiResponse response, Description mismatch) {
+            SchemaReport report = validation.apply(response);
+            mismatch.appendText(report.format());
+            return report.valid();
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(expectation);
+        }
+    }
+}
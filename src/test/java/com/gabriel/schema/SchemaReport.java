@@ -0,0 +1,27 @@
+package com.gabriel.schema;
+
+import java.util.List;
+
+public record SchemaReport(String schema, int elements, long violationCount, List<String> violations) {
+
+    public SchemaReport {
+        violations = List.copyOf(violations);
+    }
+
+    public boolean valid() {
+        return violationCount == 0;
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder()
+                .append("schema ").append(schema)
+                .append(", ").append(elements).append(" elemento(s), ")
+                .append(violationCount).append(" violação(ões)");
+        violations.forEach(violation -> text.append(System.lineSeparator()).append("  ").append(violation));
+        if (violationCount > violations.size()) {
+            text.append(System.lineSeparator()).append("  ... ").append(violationCount - violations.size())
+                    .append(" omitida(s)");
+        }
+        return text.toString();
+    }
+}
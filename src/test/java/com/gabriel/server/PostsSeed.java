@@ -0,0 +1,112 @@
+package com.gabriel.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class PostsSeed {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final PostsSeed INSTANCE = load();
+
+    private final Map<Integer, ObjectNode> postsById;
+    private final Map<Integer, byte[]> postJsonById;
+    private final Map<Integer, byte[]> postsJsonByUserId;
+    private final Map<Integer, byte[]> commentsJsonByPostId;
+    private final byte[] allPostsJson;
+    private final int nextPostId;
+
+    private PostsSeed(JsonNode root) throws IOException {
+        Map<Integer, ObjectNode> posts = new HashMap<>();
+        Map<Integer, byte[]> postJson = new HashMap<>();
+        Map<Integer, List<JsonNode>> postsByUser = new HashMap<>();
+        Map<Integer, List<JsonNode>> commentsByPost = new HashMap<>();
+        int maxPostId = 0;
+
+        for (JsonNode post : root.path("posts")) {
+            int id = post.path("id").asInt();
+            posts.put(id, (ObjectNode) post);
+            postJson.put(id, OBJECT_MAPPER.writeValueAsBytes(post));
+            postsByUser.computeIfAbsent(post.path("userId").asInt(), key -> new ArrayList<>()).add(post);
+            maxPostId = Math.max(maxPostId, id);
+        }
+
+        for (JsonNode comment : root.path("comments")) {
+            commentsByPost.computeIfAbsent(comment.path("postId").asInt(), key -> new ArrayList<>()).add(comment);
+        }
+
+        this.postsById = Map.copyOf(posts);
+        this.postJsonById = Map.copyOf(postJson);
+        this.postsJsonByUserId = renderGroups(postsByUser);
+        this.commentsJsonByPostId = renderGroups(commentsByPost);
+        this.allPostsJson = OBJECT_MAPPER.writeValueAsBytes(root.path("posts"));
+        this.nextPostId = maxPostId + 1;
+    }
+
+    static PostsSeed get() {
+        return INSTANCE;
+    }
+
+    private static PostsSeed load() {
+        try (InputStream inputStream = openSeedStream()) {
+            return new PostsSeed(OBJECT_MAPPER.readTree(inputStream));
+        } catch (IOException error) {
+            throw new IllegalStateException("Falha ao carregar massa do servidor local.", error);
+        }
+    }
+
+    private static InputStream openSeedStream() throws IOException {
+        InputStream classpathStream = PostsSeed.class.getClassLoader().getResourceAsStream("data/stub-seed.json");
+        if (classpathStream != null) {
+            return classpathStream;
+        }
+
+        Path fallbackPath = Path.of("src", "test", "resources", "data", "stub-seed.json");
+        if (Files.exists(fallbackPath)) {
+            return Files.newInputStream(fallbackPath);
+        }
+
+        throw new IllegalStateException("Arquivo data/stub-seed.json não encontrado.");
+    }
+
+    private static Map<Integer, byte[]> renderGroups(Map<Integer, List<JsonNode>> groups) throws IOException {
+        Map<Integer, byte[]> rendered = new HashMap<>();
+        for (Map.Entry<Integer, List<JsonNode>> group : groups.entrySet()) {
+            rendered.put(group.getKey(), OBJECT_MAPPER.writeValueAsBytes(group.getValue()));
+        }
+        return Map.copyOf(rendered);
+    }
+
+    ObjectNode findPost(int id) {
+        return postsById.get(id);
+    }
+
+    byte[] postJson(int id) {
+        return postJsonById.get(id);
+    }
+
+    byte[] postsJsonByUserId(int userId) {
+        return postsJsonByUserId.get(userId);
+    }
+
+    byte[] commentsJsonByPostId(int postId) {
+        return commentsJsonByPostId.get(postId);
+    }
+
+    byte[] allPostsJson() {
+        return allPostsJson;
+    }
+
+    int nextPostId() {
+        return nextPostId;
+    }
+}
@@ -0,0 +1,270 @@
+package com.gabriel.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+public final class PostsStubServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final String POSTS_PATH = "/posts";
+    private static final int COMPRESSION_MIN_BYTES = 256;
+
+    private static PostsStubServer shared;
+
+    private final PostsSeed seed = PostsSeed.get();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+    private final Map<String, Queue<Fault>> faults = new ConcurrentHashMap<>();
+
+    private PostsStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static PostsStubServer start() {
+        try {
+            return new PostsStubServer();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao iniciar servidor local de posts.", error);
+        }
+    }
+
+    public static synchronized PostsStubServer shared() {
+        if (shared == null) {
+            PostsStubServer server = start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "posts-stub-shutdown"));
+            shared = server;
+        }
+        return shared;
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Each injected fault is consumed by the next request matching method and path, in the order injected.
+    public void injectFault(String method, String path, long delayMillis, int status) {
+        faults.computeIfAbsent(method + " " + path, key -> new ConcurrentLinkedQueue<>())
+                .add(new Fault(delayMillis, status));
+    }
+
+    public void clearFaults() {
+        faults.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (applyFault(exchange)) {
+                return;
+            }
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            if (encoding != null && !StubCompression.isSupported(encoding)) {
+                send(exchange, 415, EMPTY_OBJECT);
+                return;
+            }
+            String[] segments = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+
+            if (segments.length < 2 || !POSTS_PATH.equals("/" + segments[1])) {
+                send(exchange, 404, EMPTY_OBJECT);
+            } else if (segments.length == 2) {
+                handleCollection(exchange, method);
+            } else {
+                Integer postId = parseId(segments[2]);
+                if (postId == null || segments.length > 4) {
+                    send(exchange, 404, EMPTY_OBJECT);
+                } else if (segments.length == 4) {
+                    handleComments(exchange, method, postId, segments[3]);
+                } else {
+                    handleItem(exchange, method, postId);
+                }
+            }
+        }
+    }
+
+    private boolean applyFault(HttpExchange exchange) throws IOException {
+        Queue<Fault> pending = faults.get(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+        Fault fault = pending == null ? null : pending.poll();
+        if (fault == null) {
+            return false;
+        }
+        if (fault.delayMillis() > 0) {
+            try {
+                Thread.sleep(fault.delayMillis());
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                return true;
+            }
+        }
+        if (fault.status() > 0) {
+            exchange.getRequestBody().readAllBytes();
+            send(exchange, fault.status(), EMPTY_OBJECT);
+            return true;
+        }
+        return false;
+    }
+
+    private void handleCollection(HttpExchange exchange, String method) throws IOException {
+        switch (method) {
+            case "GET" -> {
+                String userId = queryParam(exchange, "userId");
+                if (userId == null) {
+                    send(exchange, 200, seed.allPostsJson());
+                } else {
+                    Integer parsedUserId = parseId(userId);
+                    byte[] posts = parsedUserId == null ? null : seed.postsJsonByUserId(parsedUserId);
+                    send(exchange, 200, posts == null ? EMPTY_ARRAY : posts);
+                }
+            }
+            case "POST" -> {
+                ObjectNode created = readBody(exchange);
+                created.put("id", seed.nextPostId());
+                send(exchange, 201, OBJECT_MAPPER.writeValueAsBytes(created));
+            }
+            default -> send(exchange, 404, EMPTY_OBJECT);
+        }
+    }
+
+    private void handleItem(HttpExchange exchange, String method, int postId) throws IOException {
+        switch (method) {
+            case "GET" -> {
+                byte[] post = seed.postJson(postId);
+                send(exchange, post == null ? 404 : 200, post == null ? EMPTY_OBJECT : post);
+            }
+            case "PUT" -> {
+                if (seed.findPost(postId) == null) {
+                    send(exchange, 404, EMPTY_OBJECT);
+                    return;
+                }
+                ObjectNode replaced = readBody(exchange);
+                replaced.put("id", postId);
+                send(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(replaced));
+            }
+            case "PATCH" -> {
+                ObjectNode existing = seed.findPost(postId);
+                if (existing == null) {
+                    send(exchange, 404, EMPTY_OBJECT);
+                    return;
+                }
+                ObjectNode patched = existing.deepCopy();
+                patched.setAll(readBody(exchange));
+                patched.put("id", postId);
+                send(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(patched));
+            }
+            case "DELETE" -> send(exchange, 200, EMPTY_OBJECT);
+            default -> send(exchange, 404, EMPTY_OBJECT);
+        }
+    }
+
+    private void handleComments(HttpExchange exchange, String method, int postId, String resource) throws IOException {
+        if (!"GET".equals(method) || !"comments".equals(resource)) {
+            send(exchange, 404, EMPTY_OBJECT);
+            return;
+        }
+        byte[] comments = seed.commentsJsonByPostId(postId);
+        send(exchange, 200, comments == null ? EMPTY_ARRAY : comments);
+    }
+
+    private static ObjectNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readAllBytes();
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            if (encoding != null && bytes.length > 0) {
+                bytes = StubCompression.decode(encoding, bytes);
+            }
+            if (bytes.length == 0) {
+                return OBJECT_MAPPER.createObjectNode();
+            }
+            JsonNode node = OBJECT_MAPPER.readTree(bytes);
+            return node instanceof ObjectNode objectNode ? objectNode : OBJECT_MAPPER.createObjectNode();
+        }
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return pair.substring(separator + 1);
+            }
+        }
+        return null;
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+        return "W/\"" + Long.toHexString(checksum.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException error) {
+            return null;
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (status == 200 && "GET".equals(exchange.getRequestMethod())) {
+            String etag = etag(body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        String encoding = body.length < COMPRESSION_MIN_BYTES
+                ? null
+                : StubCompression.negotiate(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+        byte[] payload = encoding == null ? body : StubCompression.encode(encoding, body);
+        if (encoding != null) {
+            exchange.getResponseHeaders().set("Content-Encoding", encoding);
+            exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        }
+        exchange.sendResponseHeaders(status, payload.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(payload);
+        }
+    }
+
+    private record Fault(long delayMillis, int status) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.gabriel.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// The stub keeps its own codec so the server side never depends on the client code it is meant to exercise.
+final class StubCompression {
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    private StubCompression() {
+    }
+
+    static boolean isSupported(String encoding) {
+        return encoding != null && switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP, "x-gzip", DEFLATE -> true;
+            default -> false;
+        };
+    }
+
+    // First supported coding in the client's order, skipping the ones it refused with q=0.
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean refused = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            if (!refused && (GZIP.equals(coding) || DEFLATE.equals(coding))) {
+                return coding;
+            }
+        }
+        return null;
+    }
+
+    static byte[] encode(String encoding, byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream output = isGzip(encoding) ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            output.write(body);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao comprimir resposta com " + encoding + ".", error);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] decode(String encoding, byte[] body) {
+        try (InputStream input = isGzip(encoding)
+                ? new GZIPInputStream(new ByteArrayInputStream(body))
+                : new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        } catch (IOException error) {
+            throw new UncheckedIOException("Corpo da requisição com " + encoding + " inválido.", error);
+        }
+    }
+
+    private static boolean isGzip(String encoding) {
+        String coding = encoding.trim().toLowerCase(Locale.ROOT);
+        return GZIP.equals(coding) || "x-gzip".equals(coding);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gabriel.shard;
+
+import com.gabriel.config.TestConfig;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.nio.file.Path;
+
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private final ShardPlan plan;
+    private final int shardIndex;
+
+    public ShardFilter() {
+        this(TestConfig.getShardCount() > 1
+                ? ShardPlanner.fromHistory(Path.of(TestConfig.getShardHistoryDir()), TestConfig.getShardCount())
+                : null, TestConfig.getShardIndex());
+        if (plan != null) {
+            System.err.println("Shard " + shardIndex + " de " + plan.shardCount() + ", plano " + plan.fingerprint()
+                    + " (histórico " + TestConfig.getShardHistoryDir() + "); confira que todos os nós imprimem o mesmo.");
+        }
+    }
+
+    public ShardFilter(ShardPlan plan, int shardIndex) {
+        if (plan != null && (shardIndex < 0 || shardIndex >= plan.shardCount())) {
+            throw new IllegalArgumentException("Índice de shard fora do intervalo: " + shardIndex);
+        }
+        this.plan = plan;
+        this.shardIndex = shardIndex;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (plan == null || !(descriptor.getSource().orElse(null) instanceof MethodSource source)) {
+            return FilterResult.included("sem sharding");
+        }
+        int shard = plan.shardOf(source.getClassName(), source.getMethodName());
+        return shard == shardIndex
+                ? FilterResult.included("shard " + shard)
+                : FilterResult.excluded("pertence ao shard " + shard);
+    }
+}
@@ -0,0 +1,60 @@
+package com.gabriel.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record ShardPlan(int shardCount, Map<String, Integer> assignments, List<Double> predictedSeconds) {
+
+    public ShardPlan {
+        assignments = Map.copyOf(assignments);
+        predictedSeconds = List.copyOf(predictedSeconds);
+    }
+
+    public int shardOf(String className, String methodName) {
+        Integer shard = assignments.get(className + "#" + methodName);
+        if (shard == null) {
+            shard = assignments.get(className);
+        }
+        return shard != null ? shard : Math.floorMod(className.hashCode(), shardCount);
+    }
+
+    public double totalSeconds() {
+        return predictedSeconds.stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    public double slowestShardSeconds() {
+        return predictedSeconds.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+    }
+
+    // Same history on every node gives the same fingerprint; nodes printing different ones would drop or repeat tests.
+    public String fingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(shardCount).getBytes(StandardCharsets.UTF_8));
+            new TreeMap<>(assignments).forEach((unit, shard) ->
+                    digest.update(("\n" + unit + "=" + shard).getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 6);
+        } catch (NoSuchAlgorithmException error) {
+            throw new IllegalStateException("SHA-256 indisponível.", error);
+        }
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%d shard(s), plano %s, total previsto %.2f s, ideal %.2f s por shard%n",
+                shardCount, fingerprint(), totalSeconds(), totalSeconds() / shardCount));
+        for (int shard = 0; shard < shardCount; shard++) {
+            int index = shard;
+            long units = assignments.values().stream().filter(value -> value == index).count();
+            text.append(String.format(Locale.ROOT, "  shard %d: %.2f s (%d unidade(s))%n",
+                    shard, predictedSeconds.get(shard), units));
+        }
+        return text.toString();
+    }
+}
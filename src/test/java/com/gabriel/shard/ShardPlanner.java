@@ -0,0 +1,119 @@
+package com.gabriel.shard;
+
+import com.gabriel.config.TestConfig;
+import com.gabriel.reports.TestCaseResult;
+import com.gabriel.reports.TestHistory;
+import com.gabriel.reports.TestSuiteResult;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    public static void main(String[] args) {
+        System.out.print(fromHistory(Path.of(TestConfig.getShardHistoryDir()), TestConfig.getShardCount()).format());
+    }
+
+    // Every node must plan from the same shared history (the .test-history kept by the report profile), never from
+    // its own target directory: a node that plans from different data assigns tests differently. Without any
+    // history every node falls back to the same class-name hash, which is balanced by count rather than duration.
+    public static ShardPlan fromHistory(Path historyDirectory, int shardCount) {
+        TestHistory history = TestHistory.load(historyDirectory, TestConfig.getReportHistoryWindow());
+        if (history.size() == 0) {
+            System.err.println("Histórico compartilhado não encontrado em "
+                    + historyDirectory.resolve(TestHistory.FILE_NAME) + "; os testes serão distribuídos pelo nome "
+                    + "da classe. Restaure o .test-history publicado pelo CI para equilibrar os shards pela duração.");
+            return plan(List.of(), shardCount, ShardPlanner::isOrdered);
+        }
+        return fromHistory(history, shardCount, ShardPlanner::isOrdered);
+    }
+
+    // Median duration of the recorded runs per test, grouped back into one suite per class.
+    public static ShardPlan fromHistory(TestHistory history, int shardCount, Predicate<String> keepClassWhole) {
+        Map<String, List<TestCaseResult>> byClass = new LinkedHashMap<>();
+        for (String key : history.keys()) {
+            long[] millis = history.samples(key).stream().mapToLong(TestHistory.Sample::millis).sorted().toArray();
+            if (millis.length == 0) {
+                continue;
+            }
+            int separator = key.indexOf('#');
+            String className = key.substring(0, separator);
+            byClass.computeIfAbsent(className, ignored -> new ArrayList<>()).add(new TestCaseResult(className,
+                    key.substring(separator + 1), millis[millis.length / 2] / 1000.0, TestCaseResult.Status.PASSED,
+                    null));
+        }
+        List<TestSuiteResult> suites = new ArrayList<>();
+        byClass.forEach((className, testCases) -> suites.add(new TestSuiteResult(className,
+                testCases.stream().mapToDouble(TestCaseResult::seconds).sum(), testCases)));
+        return plan(suites, shardCount, keepClassWhole);
+    }
+
+    // Longest-processing-time first: heaviest unit goes to the currently lightest shard, which keeps the slowest
+    // shard within one unit of total/N.
+    public static ShardPlan plan(List<TestSuiteResult> history, int shardCount, Predicate<String> keepClassWhole) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Quantidade de shards deve ser positiva: " + shardCount);
+        }
+        Map<String, Double> units = units(history, keepClassWhole);
+        List<Map.Entry<String, Double>> ordered = new ArrayList<>(units.entrySet());
+        ordered.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        double[] loads = new double[shardCount];
+        Map<String, Integer> assignments = new HashMap<>();
+        for (Map.Entry<String, Double> unit : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += unit.getValue();
+            assignments.put(unit.getKey(), lightest);
+        }
+
+        List<Double> predicted = new ArrayList<>();
+        for (double load : loads) {
+            predicted.add(load);
+        }
+        return new ShardPlan(shardCount, assignments, predicted);
+    }
+
+    private static Map<String, Double> units(List<TestSuiteResult> history, Predicate<String> keepClassWhole) {
+        Map<String, Double> units = new LinkedHashMap<>();
+        for (TestSuiteResult suite : history) {
+            if (suite.testCases().isEmpty()) {
+                continue;
+            }
+            String className = suite.testCases().get(0).className();
+            double casesSeconds = suite.testCases().stream().mapToDouble(TestCaseResult::seconds).sum();
+            double overheadPerCase = Math.max(suite.seconds() - casesSeconds, 0) / suite.testCases().size();
+            boolean whole = keepClassWhole.test(className);
+            for (TestCaseResult testCase : suite.testCases()) {
+                String key = whole ? className : testCase.key();
+                units.merge(key, testCase.seconds() + overheadPerCase, Double::sum);
+            }
+        }
+        return units;
+    }
+
+    static boolean isOrdered(String className) {
+        try {
+            Class<?> testClass = Class.forName(className, false, ShardPlanner.class.getClassLoader());
+            return AnnotationSupport.isAnnotated(testClass, TestMethodOrder.class);
+        } catch (ClassNotFoundException error) {
+            return true;
+        }
+    }
+}
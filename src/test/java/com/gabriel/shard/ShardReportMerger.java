@@ -0,0 +1,104 @@
+package com.gabriel.shard;
+
+import com.gabriel.reports.SurefireReportReader;
+import com.gabriel.reports.TestCaseResult;
+import com.gabriel.reports.TestSuiteResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public final class ShardReportMerger {
+
+    private static final Path DEFAULT_SHARDS_DIR = Path.of("target", "shards");
+
+    private ShardReportMerger() {
+    }
+
+    public static void main(String[] args) {
+        Path shardsDirectory = args.length == 0 ? DEFAULT_SHARDS_DIR : Path.of(args[0]);
+        Summary summary = merge(shardsDirectory);
+        System.out.print(summary.text());
+        if (summary.failures() > 0) {
+            System.exit(1);
+        }
+    }
+
+    public record Summary(int shards, long tests, long failures, String text) {
+    }
+
+    public static Summary merge(Path shardsDirectory) {
+        List<Path> shardDirectories = shardDirectories(shardsDirectory);
+        if (shardDirectories.isEmpty()) {
+            throw new IllegalStateException("Nenhum diretório shard-* encontrado em " + shardsDirectory + ".");
+        }
+
+        Path merged = shardsDirectory.resolve("merged");
+        StringBuilder text = new StringBuilder();
+        long tests = 0;
+        long failures = 0;
+        double totalSeconds = 0;
+        double slowestSeconds = 0;
+        for (Path shardDirectory : shardDirectories) {
+            List<TestSuiteResult> suites = SurefireReportReader.readDirectory(shardDirectory);
+            long shardTests = suites.stream().mapToLong(suite -> suite.testCases().size()).sum();
+            long shardFailures = suites.stream()
+                    .mapToLong(suite -> suite.count(TestCaseResult.Status.FAILED) + suite.count(TestCaseResult.Status.ERROR))
+                    .sum();
+            double shardSeconds = suites.stream().mapToDouble(TestSuiteResult::seconds).sum();
+            text.append(String.format(Locale.ROOT, "  %s: %d teste(s), %d falha(s), %.2f s%n",
+                    shardDirectory.getFileName(), shardTests, shardFailures, shardSeconds));
+            tests += shardTests;
+            failures += shardFailures;
+            totalSeconds += shardSeconds;
+            slowestSeconds = Math.max(slowestSeconds, shardSeconds);
+            copyReports(shardDirectory, merged);
+        }
+
+        String header = String.format(Locale.ROOT,
+                "%d shard(s): %d teste(s), %d falha(s), total %.2f s, ideal %.2f s, shard mais lento %.2f s%n",
+                shardDirectories.size(), tests, failures, totalSeconds, totalSeconds / shardDirectories.size(),
+                slowestSeconds);
+        String summary = header + text;
+        try {
+            Files.writeString(shardsDirectory.resolve("summary.txt"), summary);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar resumo dos shards.", error);
+        }
+        return new Summary(shardDirectories.size(), tests, failures, summary);
+    }
+
+    private static List<Path> shardDirectories(Path shardsDirectory) {
+        if (!Files.isDirectory(shardsDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(shardsDirectory)) {
+            return new ArrayList<>(children
+                    .filter(Files::isDirectory)
+                    .filter(child -> child.getFileName().toString().startsWith("shard-"))
+                    .sorted()
+                    .toList());
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao listar shards em " + shardsDirectory + ".", error);
+        }
+    }
+
+    private static void copyReports(Path shardDirectory, Path merged) {
+        try (Stream<Path> reports = Files.list(shardDirectory)) {
+            Files.createDirectories(merged);
+            for (Path report : reports.filter(file -> file.getFileName().toString().startsWith("TEST-")).toList()) {
+                String name = report.getFileName().toString().replaceFirst("\\.xml$", "")
+                        + "-" + shardDirectory.getFileName() + ".xml";
+                Files.copy(report, merged.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao copiar relatórios de " + shardDirectory + ".", error);
+        }
+    }
+}
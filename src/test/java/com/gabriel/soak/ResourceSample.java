@@ -0,0 +1,16 @@
+package com.gabriel.soak;
+
+import java.util.Locale;
+
+public record ResourceSample(long elapsedMillis, double heapUsedMb, double heapRetainedMb, long gcCount,
+                             long gcPauseMillis, int liveThreads, long openFileDescriptors, int openConnections,
+                             int leasedConnections) {
+
+    public static final String CSV_HEADER = "elapsed_ms,heap_used_mb,heap_retained_mb,gc_count,gc_pause_ms,"
+            + "live_threads,open_fds,pool_open_connections,pool_leased_connections";
+
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%d,%.2f,%.2f,%d,%d,%d,%d,%d,%d", elapsedMillis, heapUsedMb, heapRetainedMb,
+                gcCount, gcPauseMillis, liveThreads, openFileDescriptors, openConnections, leasedConnections);
+    }
+}
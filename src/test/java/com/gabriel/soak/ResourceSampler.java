@@ -0,0 +1,75 @@
+package com.gabriel.soak;
+
+import com.gabriel.http.ConnectionPoolStats;
+import com.gabriel.http.PooledHttpClientFactory;
+import com.sun.management.UnixOperatingSystemMXBean;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class ResourceSampler {
+
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    // ZGC and Shenandoah expose their concurrent cycles as separate "... Cycles" beans whose collection time is
+    // mostly concurrent work; only the remaining beans (G1/Parallel/Serial collections, "... Pauses") stop the app.
+    private final List<GarbageCollectorMXBean> pauseCollectors = collectors.stream()
+            .filter(collector -> !collector.getName().contains("Cycles"))
+            .toList();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final PooledHttpClientFactory pool;
+    private final long startNanos = System.nanoTime();
+    private long previousGcPauseMillis = totalGcPauseMillis();
+
+    public ResourceSampler(PooledHttpClientFactory pool) {
+        this.pool = pool;
+    }
+
+    public synchronized ResourceSample sample() {
+        long totalPauseMillis = totalGcPauseMillis();
+        long gcPauseMillis = totalPauseMillis - previousGcPauseMillis;
+        previousGcPauseMillis = totalPauseMillis;
+        ConnectionPoolStats connections = pool.stats();
+        return new ResourceSample(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                memory.getHeapMemoryUsage().getUsed() / BYTES_PER_MB,
+                retainedHeapBytes() / BYTES_PER_MB,
+                collectors.stream().mapToLong(collector -> Math.max(collector.getCollectionCount(), 0)).sum(),
+                gcPauseMillis,
+                threads.getThreadCount(),
+                operatingSystem instanceof UnixOperatingSystemMXBean unix ? unix.getOpenFileDescriptorCount() : -1,
+                connections.leased() + connections.available(),
+                connections.leased());
+    }
+
+    // Heap still in use right after the last collection of each pool: unlike the live usage it does not follow
+    // the allocation sawtooth, so a steady rise means objects are being retained.
+    private long retainedHeapBytes() {
+        long retained = 0;
+        for (MemoryPoolMXBean heapPool : heapPools) {
+            MemoryUsage afterCollection = heapPool.getCollectionUsage();
+            if (afterCollection != null) {
+                retained += afterCollection.getUsed();
+            }
+        }
+        return retained;
+    }
+
+    private long totalGcPauseMillis() {
+        return pauseCollectors.stream().mapToLong(collector -> Math.max(collector.getCollectionTime(), 0)).sum();
+    }
+}
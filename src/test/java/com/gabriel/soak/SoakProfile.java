@@ -0,0 +1,36 @@
+package com.gabriel.soak;
+
+import com.gabriel.config.TestConfig;
+
+import java.time.Duration;
+
+public record SoakProfile(Duration duration, Duration warmup, Duration sampleInterval, int users, Duration pacing,
+                          double maxHeapGrowthMb, double maxConnectionGrowth, double maxThreadGrowth) {
+
+    public SoakProfile {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duração do soak deve ser positiva.");
+        }
+        if (warmup.isNegative() || warmup.compareTo(duration) >= 0) {
+            throw new IllegalArgumentException("Aquecimento deve ser menor que a duração do soak.");
+        }
+        if (sampleInterval.isNegative() || sampleInterval.isZero()) {
+            throw new IllegalArgumentException("Intervalo de amostragem deve ser positivo.");
+        }
+        if (users <= 0) {
+            throw new IllegalArgumentException("Soak precisa de ao menos um usuário.");
+        }
+    }
+
+    public static SoakProfile fromConfig() {
+        return new SoakProfile(
+                Duration.ofSeconds(TestConfig.getSoakDurationSeconds()),
+                Duration.ofSeconds(TestConfig.getSoakWarmupSeconds()),
+                Duration.ofMillis(TestConfig.getSoakSampleIntervalMillis()),
+                TestConfig.getSoakUsers(),
+                Duration.ofMillis(TestConfig.getSoakPacingMillis()),
+                TestConfig.getSoakMaxHeapGrowthMb(),
+                TestConfig.getSoakMaxConnectionGrowth(),
+                TestConfig.getSoakMaxThreadGrowth());
+    }
+}
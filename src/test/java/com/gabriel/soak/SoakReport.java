@@ -0,0 +1,72 @@
+package com.gabriel.soak;
+
+import com.gabriel.load.LoadReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+public record SoakReport(LoadReport load, List<ResourceSample> samples, List<String> leaks) {
+
+    private static final int MIN_STEADY_SAMPLES = 6;
+
+    public SoakReport {
+        samples = List.copyOf(samples);
+        leaks = List.copyOf(leaks);
+    }
+
+    public static SoakReport analyze(SoakProfile profile, LoadReport load, List<ResourceSample> samples) {
+        long warmupMillis = profile.warmup().toMillis();
+        List<ResourceSample> steady = samples.stream()
+                .filter(sample -> sample.elapsedMillis() >= warmupMillis)
+                .toList();
+        List<String> leaks = new ArrayList<>();
+        if (steady.size() >= MIN_STEADY_SAMPLES) {
+            check(leaks, steady, "heap retido (MB)", ResourceSample::heapRetainedMb, profile.maxHeapGrowthMb());
+            check(leaks, steady, "conexões abertas", ResourceSample::openConnections, profile.maxConnectionGrowth());
+            check(leaks, steady, "threads vivas", ResourceSample::liveThreads, profile.maxThreadGrowth());
+        }
+        return new SoakReport(load, samples, leaks);
+    }
+
+    // Compares the mean of the last third of the steady-state samples with the mean of the first third, which
+    // smooths out GC sawtooth and pool churn while still catching a steady climb.
+    public static double growth(List<ResourceSample> steady, ToDoubleFunction<ResourceSample> metric) {
+        int third = steady.size() / 3;
+        double first = steady.subList(0, third).stream().mapToDouble(metric).average().orElse(0);
+        double last = steady.subList(steady.size() - third, steady.size()).stream().mapToDouble(metric).average()
+                .orElse(0);
+        return last - first;
+    }
+
+    public boolean passed() {
+        return leaks.isEmpty();
+    }
+
+    public String format() {
+        StringBuilder output = new StringBuilder();
+        if (load != null) {
+            output.append(load.format());
+        }
+        output.append(String.format(Locale.ROOT, "%d amostra(s) de recursos%n", samples.size()));
+        if (!samples.isEmpty()) {
+            ResourceSample last = samples.get(samples.size() - 1);
+            output.append(String.format(Locale.ROOT,
+                    "final: heap %.1f MB (retido %.1f MB), %d GCs, %d threads, %d FDs, %d conexões%n",
+                    last.heapUsedMb(), last.heapRetainedMb(), last.gcCount(), last.liveThreads(),
+                    last.openFileDescriptors(), last.openConnections()));
+        }
+        leaks.forEach(leak -> output.append("VAZAMENTO: ").append(leak).append(System.lineSeparator()));
+        return output.toString();
+    }
+
+    private static void check(List<String> leaks, List<ResourceSample> steady, String name,
+                              ToDoubleFunction<ResourceSample> metric, double maxGrowth) {
+        double growth = growth(steady, metric);
+        if (growth > maxGrowth) {
+            leaks.add(String.format(Locale.ROOT, "%s cresceu %.2f após o aquecimento (limite %.2f)",
+                    name, growth, maxGrowth));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.gabriel.soak;
+
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.http.PooledHttpClientFactory;
+import com.gabriel.load.LoadGenerator;
+import com.gabriel.load.LoadProfile;
+import com.gabriel.load.LoadReport;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class SoakRunner {
+
+    private final PostsEndpoint endpoint;
+
+    public SoakRunner(PostsEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    // Each sample is flushed as soon as it is taken, so an aborted multi-hour run still leaves its time series.
+    public SoakReport run(SoakProfile profile, Path outputFile) {
+        ResourceSampler sampler = new ResourceSampler(PooledHttpClientFactory.shared());
+        SampleLog log = new SampleLog(outputFile);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = profile.sampleInterval().toMillis();
+        scheduler.scheduleAtFixedRate(() -> log.append(sampler.sample()), 0, intervalMillis, TimeUnit.MILLISECONDS);
+
+        LoadReport load;
+        try {
+            load = new LoadGenerator(endpoint).run(LoadProfile.closedLoop(profile.users(), profile.pacing(),
+                    profile.duration()));
+        } finally {
+            scheduler.shutdown();
+            awaitSampler(scheduler);
+            log.append(sampler.sample());
+            log.close();
+        }
+        return SoakReport.analyze(profile, load, log.samples());
+    }
+
+    private static void awaitSampler(ScheduledExecutorService scheduler) {
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SampleLog {
+
+        private final Path file;
+        private final BufferedWriter writer;
+        private final List<ResourceSample> samples = new ArrayList<>();
+        private IOException failure;
+
+        private SampleLog(Path file) {
+            this.file = file;
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write(ResourceSample.CSV_HEADER);
+                writer.newLine();
+            } catch (IOException error) {
+                throw new UncheckedIOException("Falha ao criar série temporal do soak em " + file + ".", error);
+            }
+        }
+
+        private synchronized void append(ResourceSample sample) {
+            samples.add(sample);
+            if (failure != null) {
+                return;
+            }
+            try {
+                writer.write(sample.toCsv());
+                writer.newLine();
+                writer.flush();
+            } catch (IOException error) {
+                failure = error;
+            }
+        }
+
+        private synchronized List<ResourceSample> samples() {
+            return List.copyOf(samples);
+        }
+
+        private synchronized void close() {
+            try {
+                writer.close();
+            } catch (IOException error) {
+                if (failure == null) {
+                    failure = error;
+                }
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Falha ao gravar série temporal do soak em " + file + ".", failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.models.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ApiResponseTest extends BaseTest {
+
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint();
+
+    @Test
+    @DisplayName("Visões da resposta devem ser lidas uma única vez e reaproveitadas")
+    void deveReaproveitarVisoesJaLidas() {
+        ApiResponse response = ApiResponse.of(postsEndpoint.getPostById(1));
+
+        assertThat(response.asPost(), sameInstance(response.asPost()));
+        assertThat(response.tree(), sameInstance(response.tree()));
+        assertThat(response.asPost().id(), equalTo(response.tree().path("id").asInt()));
+    }
+
+    @Test
+    @DisplayName("Leitura item a item deve entregar cada elemento do array sem montar a lista")
+    void deveLerArrayItemAItem() {
+        ApiResponse response = ApiResponse.of(postsEndpoint.getPosts());
+        AtomicInteger expectedId = new AtomicInteger(1);
+
+        int total = response.forEachPost(post ->
+                assertThat(post.id(), equalTo(expectedId.getAndIncrement())));
+
+        assertThat(total, equalTo(100));
+        assertThat(response.asPosts().size(), equalTo(total));
+    }
+
+    @Test
+    @DisplayName("Leitura em streaming deve funcionar sobre qualquer InputStream")
+    void deveLerPostsDeInputStream() {
+        byte[] json = "[{\"id\":7,\"userId\":1,\"title\":\"a\",\"body\":\"b\",\"extra\":true}]"
+                .getBytes(StandardCharsets.UTF_8);
+        AtomicInteger ids = new AtomicInteger();
+
+        int total = ApiResponse.streamPosts(new ByteArrayInputStream(json), (Post post) -> ids.addAndGet(post.id()));
+
+        assertThat(total, equalTo(1));
+        assertThat(ids.get(), equalTo(7));
+    }
+}
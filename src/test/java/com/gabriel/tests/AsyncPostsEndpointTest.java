@@ -0,0 +1,89 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.AsyncPostsEndpoint;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.LatencyBudget;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.models.Post;
+import com.gabriel.payloads.PostPayload;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+@Isolated
+class AsyncPostsEndpointTest extends BaseTest {
+
+    private static final int FAN_OUT = 1000;
+
+    private final AsyncPostsEndpoint asyncEndpoint = new AsyncPostsEndpoint(localBaseUrl());
+
+    @Test
+    @DisplayName("GET /posts/{id} assíncrono deve devolver resposta compatível com as asserções existentes")
+    void deveBuscarPostDeFormaAssincrona() {
+        Response response = asyncEndpoint.getPostByIdAsync(1).join();
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.path("id"), equalTo(1));
+        assertThat(ApiResponse.of(response).asPost().userId(), equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Chamadas assíncronas devem entrar nas métricas do escopo do teste")
+    void deveMedirChamadasAssincronasNoEscopoDoTeste() {
+        CompletableFuture.allOf(asyncEndpoint.getPostByIdAsync(1), asyncEndpoint.getPostByIdAsync(2)).join();
+
+        EndpointSnapshot snapshot = RequestMetrics.currentScope().orElseThrow()
+                .snapshot("GET /posts/{id}").orElseThrow();
+        assertThat(snapshot.count(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("Escritas assíncronas devem enviar o payload tipado")
+    void deveExecutarEscritasAssincronas() {
+        Response created = asyncEndpoint.createPostAsync(PostPayload.create("foo", "bar", 1)).join();
+        Response patched = asyncEndpoint.patchPostAsync(1, PostPayload.patch("novo")).join();
+        Response deleted = asyncEndpoint.deletePostAsync(1).join();
+
+        assertThat(created.statusCode(), equalTo(201));
+        assertThat(created.path("title"), equalTo("foo"));
+        assertThat(patched.path("title"), equalTo("novo"));
+        assertThat(deleted.statusCode(), equalTo(200));
+    }
+
+    @Test
+    @DisplayName("Milhares de leituras simultâneas devem usar poucas threads de plataforma")
+    // All calls are queued at once, so each latency includes the wait for a pooled connection.
+    @LatencyBudget(route = "GET /posts/{id}", millis = 30_000)
+    void deveDistribuirLeiturasComPoucasThreads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int before = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+
+        List<CompletableFuture<Post>> futures = IntStream.range(0, FAN_OUT)
+                .mapToObj(call -> asyncEndpoint.getPostByIdAsync(call % 100 + 1)
+                        .thenApply(response -> ApiResponse.of(response).asPost()))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<Integer> ids = futures.stream().map(CompletableFuture::join).map(Post::id).toList();
+        assertThat(ids, equalTo(IntStream.range(0, FAN_OUT).mapToObj(call -> call % 100 + 1).toList()));
+        assertThat(futures.stream().map(CompletableFuture::join).map(Post::title).toList(),
+                everyItem(notNullValue()));
+        assertThat(threads.getPeakThreadCount() - before, lessThan(32));
+    }
+}
@@ -0,0 +1,137 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.http.CompressionPolicy;
+import com.gabriel.http.HttpCompression;
+import com.gabriel.http.ResilientCaller;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.MetricsExporter;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PostPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+class CompressionTest extends BaseTest {
+
+    private static final CompressionPolicy ENABLED = new CompressionPolicy(true, 1024);
+
+    private RequestMetrics metrics;
+
+    @BeforeEach
+    void openScope() {
+        metrics = RequestMetrics.openScope();
+    }
+
+    @AfterEach
+    void closeScope() {
+        RequestMetrics.closeScope();
+    }
+
+    @Test
+    @DisplayName("Lista de posts deve trafegar comprimida e chegar ao teste já descomprimida")
+    void deveReceberListaComprimida() {
+        ApiResponse plain = ApiResponse.of(endpoint(CompressionPolicy.DISABLED).getPosts());
+        metrics.reset();
+
+        ApiResponse compressed = ApiResponse.of(endpoint(ENABLED).getPosts());
+
+        EndpointSnapshot snapshot = metrics.snapshot("GET /posts").orElseThrow();
+        assertThat(compressed.statusCode(), equalTo(200));
+        assertThat(compressed.body(), equalTo(plain.body()));
+        assertThat(compressed.raw().getHeader("Content-Encoding"), nullValue());
+        assertThat(snapshot.responseBytes(), equalTo((long) plain.body().length));
+        assertThat(snapshot.responseWireBytes(), lessThan(snapshot.responseBytes() / 3));
+        assertThat(snapshot.compressionNanos(), greaterThan(0L));
+        assertThat(snapshot.savedBytes(), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("Sem compressão habilitada os bytes na rede devem ser os mesmos do corpo")
+    void deveManterTrafegoSemCompressaoPorPadrao() {
+        ApiResponse response = ApiResponse.of(endpoint(CompressionPolicy.fromConfig()).getCommentsByPostId(1));
+
+        EndpointSnapshot snapshot = metrics.snapshot("GET /posts/{id}/comments").orElseThrow();
+        assertThat(TestConfig.isHttpCompressionEnabled(), equalTo(false));
+        assertThat(snapshot.responseBytes(), equalTo((long) response.body().length));
+        assertThat(snapshot.responseWireBytes(), equalTo(snapshot.responseBytes()));
+        assertThat(snapshot.compressionNanos(), equalTo(0L));
+    }
+
+    @Test
+    @DisplayName("Corpo de criação acima do limite deve ser enviado em gzip e o pequeno sem compressão")
+    void deveComprimirSomenteCorpoAcimaDoLimite() {
+        PostsEndpoint endpoint = endpoint(ENABLED);
+        CreatePostPayload large = PostPayload.create("grande", "corpo repetido ".repeat(400), 1);
+        CreatePostPayload small = PostPayload.create("foo", "bar", 1);
+
+        ApiResponse created = ApiResponse.of(endpoint.createPost(large));
+        EndpointSnapshot compressed = metrics.snapshot("POST /posts").orElseThrow();
+        metrics.reset();
+        endpoint.createPost(small);
+        EndpointSnapshot uncompressed = metrics.snapshot("POST /posts").orElseThrow();
+
+        assertThat(created.statusCode(), equalTo(201));
+        assertThat(created.tree().path("body").textValue(), equalTo("corpo repetido ".repeat(400)));
+        assertThat(compressed.requestBytes(), equalTo((long) large.toJson().length));
+        assertThat(compressed.requestWireBytes(), lessThan(compressed.requestBytes() / 10));
+        assertThat(uncompressed.requestWireBytes(), equalTo((long) small.toJson().length));
+        assertThat(uncompressed.requestBytes(), equalTo(uncompressed.requestWireBytes()));
+    }
+
+    @Test
+    @DisplayName("Servidor deve negociar deflate, respeitar q=0 e recusar codificação desconhecida")
+    void deveNegociarCodificacaoNoServidor() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        URI posts = URI.create(localBaseUrl() + "/posts");
+
+        HttpResponse<byte[]> deflated = client.send(HttpRequest.newBuilder(posts)
+                .header("Accept-Encoding", "br, deflate").build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> refused = client.send(HttpRequest.newBuilder(posts)
+                .header("Accept-Encoding", "gzip;q=0, identity").build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<String> unsupported = client.send(HttpRequest.newBuilder(posts)
+                .header("Content-Encoding", "br")
+                .POST(HttpRequest.BodyPublishers.ofString("{}")).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(deflated.headers().firstValue("Content-Encoding").orElse(null), equalTo(HttpCompression.DEFLATE));
+        assertThat(HttpCompression.decode(HttpCompression.DEFLATE, deflated.body()), equalTo(refused.body()));
+        assertThat(refused.headers().firstValue("Content-Encoding").isPresent(), equalTo(false));
+        assertThat(unsupported.statusCode(), equalTo(415));
+    }
+
+    @Test
+    @DisplayName("Exportação Prometheus deve incluir bytes na rede e tempo de compressão")
+    void deveExportarBytesNaRedeETempoDeCompressao() {
+        endpoint(ENABLED).getPosts();
+
+        String prometheus = MetricsExporter.toPrometheus(List.of(metrics.snapshot("GET /posts").orElseThrow()));
+
+        assertThat(prometheus, containsString(
+                "posts_endpoint_response_wire_bytes_total{method=\"GET\",route=\"/posts\"}"));
+        assertThat(prometheus, containsString(
+                "posts_endpoint_compression_seconds_total{method=\"GET\",route=\"/posts\"}"));
+    }
+
+    private static PostsEndpoint endpoint(CompressionPolicy compression) {
+        return new PostsEndpoint(localBaseUrl(), null, ResilientCaller.shared(), compression);
+    }
+}
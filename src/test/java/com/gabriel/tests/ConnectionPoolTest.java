@@ -0,0 +1,104 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.http.ConnectionPoolStats;
+import com.gabriel.http.PooledHttpClientFactory;
+import com.gabriel.server.PostsStubServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@Isolated
+class ConnectionPoolTest extends BaseTest {
+
+    private static final int SEQUENTIAL_CALLS = 30;
+    private static final long SLOW_CALL_MILLIS = 1000;
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint(localBaseUrl());
+
+    @Test
+    @DisplayName("Pool deve respeitar o limite configurado em config.properties")
+    void deveAplicarLimiteDoPool() {
+        ConnectionPoolStats stats = PooledHttpClientFactory.shared().stats();
+
+        assertThat(stats.max(), equalTo(TestConfig.getHttpPoolMaxTotal()));
+    }
+
+    @Test
+    @DisplayName("Chamadas sequenciais devem reutilizar a mesma conexão keep-alive")
+    void deveReutilizarConexoesEntreChamadas() {
+        PooledHttpClientFactory pool = PooledHttpClientFactory.shared();
+        pool.closeIdleConnections();
+        long createdBefore = pool.stats().created();
+
+        for (int call = 0; call < SEQUENTIAL_CALLS; call++) {
+            assertThat(postsEndpoint.getPostById(call % 100 + 1).statusCode(), equalTo(200));
+        }
+
+        ConnectionPoolStats stats = pool.stats();
+        assertThat(stats.created() - createdBefore, lessThanOrEqualTo(1L));
+        assertThat(stats.leased(), equalTo(0));
+        assertThat(stats.available(), greaterThan(0));
+    }
+
+    @Test
+    @DisplayName("Pool deve liberar o total configurado entre rotas e limitar cada rota ao seu máximo")
+    void deveLimitarConexoesPorRotaEPeloTotal() throws Exception {
+        System.setProperty("http.pool.max.total", "4");
+        System.setProperty("http.pool.max.per.route", "2");
+        PooledHttpClientFactory pool;
+        try {
+            pool = new PooledHttpClientFactory();
+        } finally {
+            System.clearProperty("http.pool.max.total");
+            System.clearProperty("http.pool.max.per.route");
+        }
+        HttpClient client = pool.createHttpClient();
+
+        try (PostsStubServer server = PostsStubServer.start();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int call = 0; call < 5; call++) {
+                server.injectFault("GET", "/posts/1", SLOW_CALL_MILLIS, 200);
+            }
+            List<String> routes = List.of("http://127.0.0.1:", "http://localhost:", "http://127.0.0.1:",
+                    "http://localhost:", "http://127.0.0.1:");
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (String route : routes) {
+                calls.add(callers.submit(() -> {
+                    HttpResponse response = client.execute(new HttpGet(route + server.getPort() + "/posts/1"));
+                    EntityUtils.consume(response.getEntity());
+                    return response.getStatusLine().getStatusCode();
+                }));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SLOW_CALL_MILLIS / 2);
+            while (pool.stats().leased() < 4 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            ConnectionPoolStats busy = pool.stats();
+
+            assertThat(busy.leased(), equalTo(4));
+            assertThat(busy.pending(), equalTo(1));
+            for (Future<Integer> call : calls) {
+                assertThat(call.get(), equalTo(200));
+            }
+        }
+    }
+}
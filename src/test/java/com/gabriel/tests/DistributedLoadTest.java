@@ -0,0 +1,124 @@
+package com.gabriel.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.load.DistributedLoadReport;
+import com.gabriel.load.LoadCoordinator;
+import com.gabriel.load.LoadOperation;
+import com.gabriel.load.LoadProfile;
+import com.gabriel.load.LoadReport;
+import com.gabriel.load.LocalWorkerLauncher;
+import com.gabriel.load.LoadWorker;
+import com.gabriel.load.SshWorkerLauncher;
+import com.gabriel.load.WorkerAssignment;
+import com.gabriel.load.WorkerResult;
+import com.gabriel.server.PostsStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DistributedLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static PostsStubServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = PostsStubServer.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Cenário deve ser dividido entre os workers sem perder usuários nem taxa")
+    void deveDividirCenarioEntreWorkers() {
+        List<WorkerAssignment> closed = WorkerAssignment.split(
+                LoadProfile.closedLoop(7, Duration.ZERO, Duration.ofSeconds(1)), "http://alvo", 3);
+        List<WorkerAssignment> open = WorkerAssignment.split(
+                LoadProfile.openLoop(300, Duration.ofSeconds(1)), "http://alvo", 3);
+
+        assertThat(closed.stream().map(WorkerAssignment::users).toList(), equalTo(List.of(3, 2, 2)));
+        assertThat(open.stream().mapToDouble(WorkerAssignment::ratePerSecond).sum(), equalTo(300.0));
+        assertThat(open.get(2).phaseOffsetNanos(), equalTo(2 * 1_000_000_000L / 300));
+        assertThrows(IllegalArgumentException.class, () -> WorkerAssignment.split(
+                LoadProfile.closedLoop(2, Duration.ZERO, Duration.ofSeconds(1)), "http://alvo", 3));
+    }
+
+    @Test
+    @DisplayName("Histogramas comprimidos dos workers devem ser somados em um relatório único")
+    void deveSomarHistogramasDosWorkers() throws Exception {
+        LoadProfile profile = LoadProfile.closedLoop(2, Duration.ZERO, Duration.ofMillis(300))
+                .withOperations(LoadOperation.GET_POST_BY_ID, LoadOperation.GET_POSTS);
+        List<WorkerResult> results = new ArrayList<>();
+        for (WorkerAssignment assignment : WorkerAssignment.split(profile, server.getBaseUrl(), 2)) {
+            WorkerResult result = LoadWorker.run(assignment, System.currentTimeMillis());
+            results.add(OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(result), WorkerResult.class));
+        }
+
+        LoadReport merged = LoadCoordinator.merge(profile.operations(), results);
+
+        assertThat(merged.totalRequests(),
+                equalTo(results.get(0).totalRequests() + results.get(1).totalRequests()));
+        assertThat(merged.stats(LoadOperation.GET_POST_BY_ID).count(), greaterThan(0L));
+        assertThat(merged.totalErrors(), equalTo(0L));
+    }
+
+    @Test
+    @DisplayName("Coordenador deve iniciar workers em processos filhos no mesmo instante e consolidar a carga")
+    void deveExecutarCargaComWorkersEmProcessosFilhos() {
+        LoadCoordinator coordinator = new LoadCoordinator(
+                new LocalWorkerLauncher(List.of("-Xmx128m", "-XX:TieredStopAtLevel=1")), 2, Duration.ofMillis(500));
+        LoadProfile profile = LoadProfile.openLoop(40, Duration.ofSeconds(1))
+                .withOperations(LoadOperation.GET_POST_BY_ID);
+
+        DistributedLoadReport report = coordinator.run(profile, server.getBaseUrl());
+
+        assertThat(report.workers(), hasSize(2));
+        for (WorkerResult worker : report.workers()) {
+            assertThat(worker.totalRequests(), equalTo(20L));
+        }
+        assertThat(report.merged().totalRequests(), equalTo(40L));
+        assertThat(report.merged().totalErrors(), equalTo(0L));
+        assertThat(report.maxStartLagMillis(), lessThan(500L));
+        assertThat(report.format(), containsString("worker 1: 20 req"));
+    }
+
+    @Test
+    @DisplayName("Worker remoto deve entrar no diretório do projeto antes de rodar o comando")
+    void deveEntrarNoDiretorioDoProjetoNoHostRemoto() {
+        SshWorkerLauncher launcher = new SshWorkerLauncher(List.of("carga1"), "/srv/it's suite",
+                "java -cp 'target/test-classes' com.gabriel.load.LoadWorker");
+
+        assertThat(launcher.remoteCommand(),
+                equalTo("cd '/srv/it'\\''s suite' && java -cp 'target/test-classes' com.gabriel.load.LoadWorker"));
+    }
+
+    @Test
+    @DisplayName("Worker que encerra sem responder deve falhar a carga com o índice do worker")
+    void deveFalharQuandoWorkerEncerraSemResponder() {
+        LoadCoordinator coordinator = new LoadCoordinator(
+                index -> new ProcessBuilder("sh", "-c", "read assignment; exit 3").start(), 1, Duration.ofMillis(100));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> coordinator.run(LoadProfile.openLoop(10, Duration.ofSeconds(1)), server.getBaseUrl()));
+
+        assertThat(error.getMessage(), containsString("Worker 0"));
+        assertThat(error.getMessage(), containsString("código 3"));
+    }
+}
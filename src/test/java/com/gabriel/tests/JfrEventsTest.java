@@ -0,0 +1,122 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.AsyncPostsEndpoint;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.payloads.PostPayload;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@Isolated
+class JfrEventsTest extends BaseTest {
+
+    private static final String ENDPOINT_CALL = "com.gabriel.EndpointCall";
+    private static final String TEST_SETUP = "com.gabriel.TestSetup";
+
+    private static volatile boolean launchingSample;
+
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint(localBaseUrl());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Chamadas do PostsEndpoint devem gerar eventos JFR com rota, status e bytes")
+    void deveGerarEventoPorChamadaDoEndpoint() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            postsEndpoint.getPostById(1);
+            postsEndpoint.createPost(PostPayload.create("titulo", "corpo", 1));
+        }, ENDPOINT_CALL);
+
+        assertThat(events, hasSize(2));
+        RecordedEvent get = events.get(0);
+        assertThat(get.getString("method"), equalTo("GET"));
+        assertThat(get.getString("route"), equalTo("/posts/{id}"));
+        assertThat(get.getInt("status"), equalTo(200));
+        assertThat(get.getLong("responseBytes"), greaterThan(0L));
+        RecordedEvent post = events.get(1);
+        assertThat(post.getString("method"), equalTo("POST"));
+        assertThat(post.getInt("status"), equalTo(201));
+        assertThat(post.getLong("requestBytes"), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("Chamadas do AsyncPostsEndpoint também devem gerar eventos JFR")
+    void deveGerarEventoPorChamadaAssincrona() throws IOException {
+        AsyncPostsEndpoint asyncEndpoint = new AsyncPostsEndpoint(localBaseUrl());
+        List<RecordedEvent> events = record(() -> asyncEndpoint.getPostByIdAsync(1).join(), ENDPOINT_CALL);
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("route"), equalTo("/posts/{id}"));
+        assertThat(events.get(0).getInt("status"), equalTo(200));
+        assertThat(events.get(0).getLong("responseBytes"), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("Setup do BaseTest deve gerar evento JFR com a classe de teste")
+    void deveGerarEventoDeSetupDaClasse() throws IOException {
+        List<RecordedEvent> events = record(() -> launch(SetupSample.class), TEST_SETUP);
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("testClass"), equalTo(SetupSample.class.getName()));
+    }
+
+    private List<RecordedEvent> record(Runnable action, String eventName) throws IOException {
+        Path file = directory.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private static void launch(Class<?> testClass) {
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+        launchingSample = true;
+        try {
+            launcher.execute(LauncherDiscoveryRequestBuilder.request().selectors(selectClass(testClass)).build());
+        } finally {
+            launchingSample = false;
+        }
+    }
+
+    static boolean isLaunchingSample() {
+        return launchingSample;
+    }
+
+    @EnabledIf("com.gabriel.tests.JfrEventsTest#isLaunchingSample")
+    static class SetupSample extends BaseTest {
+
+        @Test
+        void vazio() {
+        }
+    }
+}
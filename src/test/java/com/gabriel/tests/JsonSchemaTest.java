@@ -0,0 +1,96 @@
+package com.gabriel.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.schema.JsonSchemas;
+import com.gabriel.schema.SchemaReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonSchemaTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int LARGE_ARRAY_SIZE = 200_000;
+    private static final int INVALID_ELEMENT = 123_456;
+
+    @Test
+    @DisplayName("Schema deve ser compilado uma única vez por JVM")
+    void deveReaproveitarSchemaCompilado() {
+        assertThat(JsonSchemas.get(JsonSchemas.POST), sameInstance(JsonSchemas.get(JsonSchemas.POST)));
+        assertThrows(IllegalArgumentException.class, () -> JsonSchemas.get("inexistente"));
+    }
+
+    @Test
+    @DisplayName("Post fora do schema deve apontar o campo inválido")
+    void deveApontarCampoInvalidoDoPost() throws Exception {
+        SchemaReport valid = JsonSchemas.validate(JsonSchemas.POST,
+                OBJECT_MAPPER.readTree("{\"userId\":1,\"id\":1,\"title\":\"a\",\"body\":\"b\"}"));
+        SchemaReport invalid = JsonSchemas.validate(JsonSchemas.POST,
+                OBJECT_MAPPER.readTree("{\"userId\":1,\"id\":\"1\",\"body\":\"b\"}"));
+
+        assertThat(valid.valid(), equalTo(true));
+        assertThat(invalid.violationCount(), equalTo(2L));
+        assertThat(invalid.format(), containsString("$.id"));
+        assertThat(invalid.format(), containsString("title"));
+    }
+
+    @Test
+    @DisplayName("Array grande deve ser validado elemento a elemento durante a leitura")
+    void deveValidarArrayGrandeEmStreaming() {
+        SchemaReport report = JsonSchemas.validateArray(JsonSchemas.COMMENT, comments(LARGE_ARRAY_SIZE));
+
+        assertThat(report.elements(), equalTo(LARGE_ARRAY_SIZE));
+        assertThat(report.violationCount(), equalTo(1L));
+        assertThat(report.violations(), hasSize(1));
+        assertThat(report.violations().get(0), containsString("[" + INVALID_ELEMENT + "] $.email"));
+    }
+
+    @Test
+    @DisplayName("Corpo que não é array deve ser rejeitado na validação em streaming")
+    void deveRejeitarCorpoQueNaoEArray() {
+        InputStream object = new ByteArrayInputStream("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalStateException.class, () -> JsonSchemas.validateArray(JsonSchemas.POST, object));
+    }
+
+    // Generates the array lazily so the test itself never holds the whole body in memory either.
+    private static InputStream comments(int count) {
+        Enumeration<InputStream> parts = new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                int index = next++;
+                String text;
+                if (index < 0) {
+                    text = "[";
+                } else if (index == count) {
+                    text = "]";
+                } else {
+                    String email = index == INVALID_ELEMENT ? "sem-arroba" : "user" + index + "@mail.com";
+                    text = (index > 0 ? "," : "") + "{\"postId\":1,\"id\":" + (index + 1)
+                            + ",\"name\":\"n\",\"email\":\"" + email + "\",\"body\":\"b\"}";
+                }
+                return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(parts);
+    }
+}
@@ -0,0 +1,137 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.LatencyBaseline;
+import com.gabriel.metrics.LatencyBudget;
+import com.gabriel.metrics.LatencyBudgetRule;
+import com.gabriel.metrics.LatencySummary;
+import com.gabriel.metrics.PerformanceGate;
+import com.gabriel.metrics.RequestMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyBudgetTest extends BaseTest {
+
+    private final PerformanceGate gate = new PerformanceGate(3, 5, 20, 3, List.of(50.0, 95.0));
+
+    @Test
+    @DisplayName("Orçamentos do arquivo de configuração devem ser interpretados por percentil")
+    void deveInterpretarOrcamentos() {
+        List<LatencyBudgetRule> rules = LatencyBudgetRule.parse("GET /posts/{id}", "p95<50, p99.9<200ms");
+
+        assertThat(rules, contains(
+                new LatencyBudgetRule("GET /posts/{id}", 95, 50),
+                new LatencyBudgetRule("GET /posts/{id}", 99.9, 200)));
+        assertThrows(IllegalArgumentException.class, () -> LatencyBudgetRule.parse("GET /posts", "95=50"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyBudgetRule.parse("GET /posts", "p75<200"));
+    }
+
+    @Test
+    @DisplayName("Orçamento só deve ser avaliado com amostras suficientes para o percentil")
+    void deveExigirAmostrasSuficientesParaOPercentil() {
+        LatencyBudgetRule p95 = new LatencyBudgetRule("GET /posts/{id}", 95, 50);
+        LatencyBudgetRule p99 = new LatencyBudgetRule("GET /posts/{id}", 99, 50);
+
+        assertThat(p95.hasEnoughSamples(2), equalTo(false));
+        assertThat(p95.hasEnoughSamples(20), equalTo(true));
+        assertThat(p99.hasEnoughSamples(20), equalTo(false));
+        assertThat(p99.hasEnoughSamples(100), equalTo(true));
+    }
+
+    @Test
+    @DisplayName("Orçamento deve ser violado quando o percentil atinge o limite")
+    void deveDetectarOrcamentoExcedido() {
+        LatencyBudgetRule rule = new LatencyBudgetRule("GET /posts/{id}", 95, 50);
+
+        assertThat(rule.isBreachedBy(latency(10, 49)), equalTo(false));
+        assertThat(rule.isBreachedBy(latency(10, 50)), equalTo(true));
+    }
+
+    @Test
+    @LatencyBudget(route = "GET /posts/{id}", millis = 1000)
+    @DisplayName("Requisições do teste devem ser medidas no escopo do próprio teste")
+    void deveMedirRequisicoesNoEscopoDoTeste() {
+        new PostsEndpoint(localBaseUrl()).getPostById(1);
+        new PostsEndpoint(localBaseUrl()).getPostById(2);
+
+        EndpointSnapshot snapshot = RequestMetrics.currentScope().orElseThrow()
+                .snapshot("GET /posts/{id}").orElseThrow();
+        assertThat(snapshot.count(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("Gate deve falhar quando a latência passa da variação das execuções da baseline")
+    void deveDetectarRegressaoSobreBaseline() {
+        LatencyBaseline baseline = baseline(latency(10, 20), latency(10, 22), latency(10, 24));
+
+        assertThat(gate.compare(baseline, List.of(endpoint("GET /posts", 100, latency(14, 27)))), empty());
+        List<String> regressions = gate.compare(baseline, List.of(endpoint("GET /posts", 100, latency(10, 40))));
+        assertThat(regressions, hasItem(containsString("GET /posts p95 = 40.000 ms")));
+        assertThat(regressions, not(hasItem(containsString("GET /posts p50"))));
+    }
+
+    @Test
+    @DisplayName("Gate deve tolerar mais onde a baseline varia mais e ignorar baseline com poucas execuções")
+    void deveAjustarLimitePelaVariacaoDaBaseline() {
+        LatencyBaseline noisy = baseline(latency(10, 20), latency(10, 40), latency(10, 60));
+        List<EndpointSnapshot> current = List.of(endpoint("GET /posts", 100, latency(10, 80)));
+
+        assertThat(gate.compare(noisy, current), empty());
+        assertThat(gate.compare(baseline(latency(10, 20), latency(10, 20)), current), empty());
+    }
+
+    @Test
+    @DisplayName("Gate deve ignorar rotas sem amostras suficientes para o percentil")
+    void deveIgnorarAmostrasInsuficientes() {
+        LatencyBaseline baseline = baseline(latency(10, 20), latency(10, 20), latency(10, 20));
+        List<EndpointSnapshot> current = List.of(endpoint("GET /posts", 5, latency(100, 400)));
+
+        assertThat(gate.compare(baseline, current), empty());
+    }
+
+    @Test
+    @DisplayName("Baseline deve guardar somente as execuções mais recentes")
+    void deveManterUltimasExecucoesNaBaseline(@TempDir Path directory) {
+        Path file = directory.resolve("latency-baseline.json");
+        baseline(latency(10, 20), latency(10, 22), latency(10, 24))
+                .append(List.of(endpoint("GET /posts", 100, latency(10, 26))), 3)
+                .save(file);
+
+        LatencyBaseline baseline = LatencyBaseline.load(file);
+
+        assertThat(baseline.runs().size(), equalTo(3));
+        assertThat(baseline.runs().get(0).endpoints().get(0).latency().p95(), equalTo(22.0));
+        assertThat(baseline.runs().get(2).endpoints().get(0).latency().p95(), equalTo(26.0));
+    }
+
+    private static LatencyBaseline baseline(LatencySummary... runs) {
+        LatencyBaseline baseline = new LatencyBaseline(List.of());
+        for (LatencySummary run : runs) {
+            baseline = baseline.append(List.of(endpoint("GET /posts", 100, run)), runs.length);
+        }
+        return baseline;
+    }
+
+    private static EndpointSnapshot endpoint(String route, long count, LatencySummary latency) {
+        return new EndpointSnapshot(route, count, 0, 0, 0, 0, 0, 0, latency, latency, latency);
+    }
+
+    private static LatencySummary latency(double p50, double p95) {
+        return new LatencySummary(p50, p95, p95, p95, p95, p95, p50);
+    }
+}
@@ -0,0 +1,67 @@
+package com.gabriel.tests;
+
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.load.LoadGenerator;
+import com.gabriel.load.LoadOperation;
+import com.gabriel.load.LoadProfile;
+import com.gabriel.load.LoadReport;
+import com.gabriel.load.OperationStats;
+import com.gabriel.server.PostsStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class LoadGeneratorTest {
+
+    private static PostsStubServer server;
+    private static LoadGenerator loadGenerator;
+
+    @BeforeAll
+    static void startServer() {
+        server = PostsStubServer.start();
+        loadGenerator = new LoadGenerator(new PostsEndpoint(server.getBaseUrl()));
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Loop fechado deve medir todas as operações do PostsEndpoint sem erros")
+    void deveExecutarCargaEmLoopFechado() {
+        LoadReport report = loadGenerator.run(LoadProfile.closedLoop(4, Duration.ZERO, Duration.ofMillis(500)));
+
+        assertThat(report.totalErrors(), equalTo(0L));
+        for (LoadOperation operation : LoadOperation.values()) {
+            OperationStats stats = report.stats(operation);
+            assertThat(stats.count(), greaterThan(0L));
+            assertThat(stats.p50Millis(), lessThanOrEqualTo(stats.p99Millis()));
+            assertThat(stats.p99Millis(), lessThanOrEqualTo(stats.p999Millis()));
+            assertThat(stats.p999Millis(), lessThanOrEqualTo(stats.maxMillis()));
+        }
+    }
+
+    @Test
+    @DisplayName("Loop aberto deve disparar requisições na taxa de chegada configurada")
+    void deveExecutarCargaEmLoopAberto() {
+        LoadProfile profile = LoadProfile.openLoop(100, Duration.ofMillis(500))
+                .withOperations(LoadOperation.GET_POST_BY_ID);
+
+        LoadReport report = loadGenerator.run(profile);
+
+        assertThat(report.totalRequests(), equalTo(50L));
+        assertThat(report.errorRate(), equalTo(0.0));
+        assertThat(report.throughputPerSecond(), allOf(greaterThanOrEqualTo(40.0), lessThanOrEqualTo(110.0)));
+    }
+}
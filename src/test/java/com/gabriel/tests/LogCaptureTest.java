@@ -0,0 +1,94 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.logging.TestLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@Isolated
+class LogCaptureTest {
+
+    private static volatile boolean launchingSample;
+    private static volatile String marker;
+
+    @Test
+    @DisplayName("Logs capturados devem ser gravados só para testes que falharam")
+    void deveGravarLogsSomenteDeTestesComFalha() throws IOException {
+        marker = UUID.randomUUID().toString();
+
+        TestExecutionSummary summary = launch(CapturedSample.class);
+        TestLog.flush();
+
+        String captured = Files.readString(Path.of(TestConfig.getLogCaptureFile()));
+        assertThat(summary.getTestsFailedCount(), equalTo(1L));
+        assertThat(summary.getTestsSucceededCount(), equalTo(1L));
+        assertThat(captured, containsString("FALHA: falha() (CapturedSample)"));
+        assertThat(captured, containsString("resumo da falha " + marker));
+        assertThat(captured, containsString("Causa: java.lang.AssertionError"));
+        assertThat(captured, containsString("/posts/1"));
+        assertThat(captured, containsString("Status: 200"));
+        assertThat(captured, not(containsString("resumo do sucesso " + marker)));
+    }
+
+    private static TestExecutionSummary launch(Class<?> testClass) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(testClass))
+                .build();
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        launchingSample = true;
+        try {
+            launcher.execute(request, listener);
+        } finally {
+            launchingSample = false;
+        }
+        return listener.getSummary();
+    }
+
+    static boolean isLaunchingSample() {
+        return launchingSample;
+    }
+
+    @EnabledIf("com.gabriel.tests.LogCaptureTest#isLaunchingSample")
+    static class CapturedSample extends BaseTest {
+
+        private final PostsEndpoint postsEndpoint = new PostsEndpoint(localBaseUrl());
+
+        @Test
+        void sucesso() {
+            TestLog.info("resumo do sucesso " + marker);
+            postsEndpoint.getPostById(1);
+        }
+
+        @Test
+        void falha() {
+            TestLog.info("resumo da falha " + marker);
+            assertThat(postsEndpoint.getPostById(1).statusCode(), equalTo(500));
+        }
+    }
+}
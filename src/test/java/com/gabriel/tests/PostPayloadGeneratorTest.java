@@ -0,0 +1,206 @@
+package com.gabriel.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.fuzz.GeneratedPostSource;
+import com.gabriel.fuzz.JsonBuffer;
+import com.gabriel.fuzz.PostCase;
+import com.gabriel.fuzz.PostCaseShrinker;
+import com.gabriel.fuzz.PostPayloadGenerator;
+import com.gabriel.fuzz.TextKind;
+import com.gabriel.load.LoadGenerator;
+import com.gabriel.load.LoadOperation;
+import com.gabriel.load.LoadProfile;
+import com.gabriel.load.LoadReport;
+import com.gabriel.server.PostsStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostPayloadGeneratorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int REUSED_BUFFER_CASES = 10_000;
+
+    private static PostsStubServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = PostsStubServer.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Mesma seed deve gerar exatamente os mesmos payloads")
+    void deveGerarPayloadsReprodutiveis() {
+        PostPayloadGenerator generator = new PostPayloadGenerator(7, 0.5);
+        PostPayloadGenerator same = new PostPayloadGenerator(7, 0.5);
+        PostPayloadGenerator other = new PostPayloadGenerator(8, 0.5);
+
+        for (long index = 0; index < 200; index++) {
+            assertThat(generator.caseAt(index), equalTo(same.caseAt(index)));
+            assertThat(Arrays.equals(generator.caseAt(index).toJson(), same.caseAt(index).toJson()), equalTo(true));
+        }
+        assertThat(generator.caseAt(3).title(), not(equalTo(other.caseAt(3).title())));
+    }
+
+    @Test
+    @DisplayName("JSON gerado deve ser válido e corresponder aos campos de cada caso")
+    void deveGerarJsonValidoParaCadaCaso() throws IOException {
+        PostPayloadGenerator generator = new PostPayloadGenerator(11, 0.5);
+        JsonBuffer buffer = new JsonBuffer();
+
+        for (long index = 0; index < 1_000; index++) {
+            PostCase post = generator.caseAt(index);
+            buffer.reset();
+            PostPayloadGenerator.writeCreateJson(post, buffer);
+            JsonNode json = OBJECT_MAPPER.readTree(buffer.array(), 0, buffer.length());
+
+            assertThat(post.describe(), json.path("title").textValue(), equalTo(post.title()));
+            assertThat(post.describe(), json.path("body").textValue(), equalTo(post.body()));
+            assertThat(post.describe(), json.has("userId"), equalTo(post.has(PostCase.USER_ID)));
+            if (post.has(PostCase.USER_ID)) {
+                assertThat(json.get("userId").intValue(), equalTo(post.userId()));
+            }
+        }
+
+        buffer.reset();
+        PostPayloadGenerator.writeUpdateJson(generator.caseAt(0).withFields(PostCase.ALL_FIELDS), 5, buffer);
+        assertThat(OBJECT_MAPPER.readTree(buffer.toByteArray()).get("id").intValue(), equalTo(5));
+    }
+
+    @Test
+    @DisplayName("Casos de borda devem cobrir unicode, escapes, vazios, corpo enorme, userId limite e campos ausentes")
+    void deveCobrirTodosOsCasosDeBorda() {
+        PostPayloadGenerator generator = new PostPayloadGenerator(3, 1.0);
+        Set<String> seen = new HashSet<>();
+
+        for (long index = 0; index < 5_000; index++) {
+            PostCase post = generator.caseAt(index);
+            assertThat(post.edgeCase(), equalTo(true));
+            seen.add("title:" + post.titleKind());
+            seen.add("body:" + post.bodyKind());
+            seen.add("userId:" + post.userId());
+            seen.add("fields:" + post.fields());
+            if (post.titleLength() == 0) {
+                seen.add("title vazio");
+            }
+            if (post.bodyLength() == PostPayloadGenerator.HUGE_BODY_LENGTH) {
+                seen.add("corpo enorme");
+            }
+        }
+
+        for (String expected : new String[]{"title:UNICODE", "title:ESCAPES", "body:UNICODE", "body:ESCAPES",
+                "body:WHITESPACE", "title vazio", "corpo enorme", "userId:0", "userId:-1",
+                "userId:" + Integer.MAX_VALUE, "userId:" + Integer.MIN_VALUE, "fields:6", "fields:5", "fields:3"}) {
+            assertThat(expected, seen.contains(expected), equalTo(true));
+        }
+        assertThat(new PostPayloadGenerator(3, 0).caseAt(1).edgeCase(), equalTo(false));
+    }
+
+    // Throughput and allocation per payload are measured by PostPayloadGeneratorBenchmark with -prof gc.
+    @Test
+    @DisplayName("Buffer reutilizado deve gerar o mesmo JSON que um buffer novo para cada caso")
+    void deveGerarMesmoJsonEmBufferReutilizado() {
+        PostPayloadGenerator generator = new PostPayloadGenerator(5, 0);
+        JsonBuffer reused = new JsonBuffer(16);
+
+        long bytes = generate(generator, reused, REUSED_BUFFER_CASES);
+        for (int index = 0; index < REUSED_BUFFER_CASES; index += 97) {
+            JsonBuffer fresh = new JsonBuffer();
+            generator.writeCreateJson(index, fresh);
+            reused.reset();
+            generator.writeCreateJson(index, reused);
+            assertThat(reused.toString(), equalTo(fresh.toString()));
+        }
+
+        assertThat(bytes, greaterThan(REUSED_BUFFER_CASES * 30L));
+    }
+
+    @Test
+    @DisplayName("Caso que falha deve ser reduzido ao menor reprodutor")
+    void deveReduzirCasoQueFalhaAoMenorReprodutor() {
+        Predicate<PostCase> shortBody = post -> post.body() == null || post.body().length() < 1_000;
+        PostCase huge = new PostCase(1, 2, true, PostCase.ALL_FIELDS, TextKind.UNICODE, 40, TextKind.ASCII,
+                PostPayloadGenerator.HUGE_BODY_LENGTH, Integer.MIN_VALUE);
+
+        PostCaseShrinker.Result result = PostCaseShrinker.shrink(huge, shortBody);
+
+        PostCase minimal = result.minimal();
+        assertThat(minimal.fields(), equalTo(PostCase.BODY));
+        assertThat(minimal.bodyLength(), equalTo(1_000));
+        assertThat(minimal.body(), equalTo(huge.body().substring(0, 1_000)));
+        assertThat(result.format(), containsString("reprodutor mínimo"));
+    }
+
+    @Test
+    @DisplayName("Propriedade violada deve falhar com o reprodutor mínimo na mensagem")
+    void deveFalharPropriedadeComReprodutorMinimo() {
+        PostPayloadGenerator generator = new PostPayloadGenerator(9, 1.0);
+
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> generator.forAll(5_000, post -> !post.has(PostCase.USER_ID) || post.userId() >= 0));
+
+        assertThat(error.getMessage(), containsString("userId=-1"));
+        assertThat(error.getMessage(), containsString("fields=userId"));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @GeneratedPostSource(count = 60, seed = 21, edgeCaseRatio = 0.5)
+    @DisplayName("POST /posts deve aceitar e devolver cada payload gerado")
+    void deveCriarPostComPayloadGerado(PostCase post) {
+        ApiResponse response = ApiResponse.of(new PostsEndpoint(server.getBaseUrl()).createPost(post.toJson()));
+
+        JsonNode created = response.tree();
+
+        assertThat(response.statusCode(), equalTo(201));
+        assertThat(created.path("title").textValue(), equalTo(post.title()));
+        assertThat(created.has("userId"), equalTo(post.has(PostCase.USER_ID)));
+    }
+
+    @Test
+    @DisplayName("Carga deve enviar payloads gerados nas operações com corpo")
+    void deveUsarPayloadsGeradosNaCarga() {
+        LoadGenerator generator = new LoadGenerator(new PostsEndpoint(server.getBaseUrl()),
+                new PostPayloadGenerator(13, 0.3));
+
+        LoadReport report = generator.run(LoadProfile.closedLoop(2, Duration.ZERO, Duration.ofMillis(300))
+                .withOperations(LoadOperation.CREATE_POST, LoadOperation.UPDATE_POST));
+
+        assertThat(report.stats(LoadOperation.CREATE_POST).count(), greaterThan(0L));
+        assertThat(report.stats(LoadOperation.UPDATE_POST).count(), greaterThan(0L));
+        assertThat(report.totalErrors(), equalTo(0L));
+    }
+
+    private static long generate(PostPayloadGenerator generator, JsonBuffer buffer, int count) {
+        long bytes = 0;
+        for (int index = 0; index < count; index++) {
+            buffer.reset();
+            generator.writeCreateJson(index, buffer);
+            bytes += buffer.length();
+        }
+        return bytes;
+    }
+}
@@ -1,10 +1,15 @@
 package com.gabriel.tests;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PatchPostPayload;
 import com.gabriel.payloads.PostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
+import java.io.IOException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -12,35 +17,49 @@ import static org.hamcrest.Matchers.notNullValue;
 
 class PostPayloadTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     @Test
     @DisplayName("Payload de criação deve montar title, body e userId")
     void deveMontarPayloadDeCriacaoCorretamente() {
-        Map<String, Object> payload = PostPayload.create("foo", "bar", 1);
+        CreatePostPayload payload = PostPayload.create("foo", "bar", 1);
 
         assertThat(payload, notNullValue());
-        assertThat(payload.get("title"), equalTo("foo"));
-        assertThat(payload.get("body"), equalTo("bar"));
-        assertThat(payload.get("userId"), equalTo(1));
+        assertThat(payload.title(), equalTo("foo"));
+        assertThat(payload.body(), equalTo("bar"));
+        assertThat(payload.userId(), equalTo(1));
     }
 
     @Test
     @DisplayName("Payload de atualização deve montar id, title, body e userId")
     void deveMontarPayloadDeAtualizacaoCorretamente() {
-        Map<String, Object> payload = PostPayload.update(1, "foo", "bar", 1);
+        UpdatePostPayload payload = PostPayload.update(1, "foo", "bar", 1);
 
         assertThat(payload, notNullValue());
-        assertThat(payload.get("id"), equalTo(1));
-        assertThat(payload.get("title"), equalTo("foo"));
-        assertThat(payload.get("body"), equalTo("bar"));
-        assertThat(payload.get("userId"), equalTo(1));
+        assertThat(payload.id(), equalTo(1));
+        assertThat(payload.title(), equalTo("foo"));
+        assertThat(payload.body(), equalTo("bar"));
+        assertThat(payload.userId(), equalTo(1));
     }
 
     @Test
     @DisplayName("Payload de patch deve montar apenas title")
     void deveMontarPayloadDePatchCorretamente() {
-        Map<String, Object> payload = PostPayload.patch("foo");
+        PatchPostPayload payload = PostPayload.patch("foo");
 
         assertThat(payload, notNullValue());
-        assertThat(payload.get("title"), equalTo("foo"));
+        assertThat(payload.title(), equalTo("foo"));
+    }
+
+    @Test
+    @DisplayName("Payloads devem serializar para o JSON esperado pela API")
+    void deveSerializarPayloadsParaJson() throws IOException {
+        JsonNode create = OBJECT_MAPPER.readTree(PostPayload.create("foo", "bar", 1).toJson());
+        JsonNode update = OBJECT_MAPPER.readTree(PostPayload.update(1, "foo", "bar", 1).toJson());
+        JsonNode patch = OBJECT_MAPPER.readTree(PostPayload.patch("foo").toJson());
+
+        assertThat(create, equalTo(OBJECT_MAPPER.readTree("{\"title\":\"foo\",\"body\":\"bar\",\"userId\":1}")));
+        assertThat(update, equalTo(OBJECT_MAPPER.readTree("{\"id\":1,\"title\":\"foo\",\"body\":\"bar\",\"userId\":1}")));
+        assertThat(patch, equalTo(OBJECT_MAPPER.readTree("{\"title\":\"foo\"}")));
     }
 }
\ No newline at end of file
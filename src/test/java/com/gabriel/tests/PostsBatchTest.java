@@ -0,0 +1,104 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.batch.BatchOptions;
+import com.gabriel.batch.BatchReport;
+import com.gabriel.batch.PostsBatch;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PostPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostsBatchTest extends BaseTest {
+
+    private static final int MAX_IN_FLIGHT = 8;
+    private static final int BATCH_SIZE = 500;
+
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint(localBaseUrl());
+
+    @Test
+    @DisplayName("Lote deve criar posts lendo a massa sob demanda e respeitando o limite em andamento")
+    void deveCriarPostsComBackpressure() {
+        PostsBatch batch = new PostsBatch(postsEndpoint, BatchOptions.defaults().withMaxInFlight(MAX_IN_FLIGHT));
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        Stream<CreatePostPayload> bodies = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(index -> {
+                    pulled.incrementAndGet();
+                    return PostPayload.create("titulo " + index, "corpo " + index, index % 10 + 1);
+                });
+
+        BatchReport report = batch.createPosts(bodies, result -> {
+            maxAhead.accumulateAndGet(pulled.get() - completed.incrementAndGet(), Math::max);
+            assertThat(result.statusCode(), equalTo(201));
+        });
+
+        assertThat(report.submitted(), equalTo((long) BATCH_SIZE));
+        assertThat(report.succeeded(), equalTo((long) BATCH_SIZE));
+        assertThat(report.failed(), equalTo(0L));
+        assertThat(report.maxObservedInFlight(), lessThanOrEqualTo(MAX_IN_FLIGHT));
+        assertThat(maxAhead.get(), lessThanOrEqualTo(MAX_IN_FLIGHT + 1));
+        assertThat(report.throughputPerSecond(), greaterThan(0.0));
+    }
+
+    @Test
+    @DisplayName("Lote deve respeitar a taxa máxima configurada")
+    void deveLimitarTaxaDeRequisicoes() {
+        PostsBatch batch = new PostsBatch(postsEndpoint, BatchOptions.defaults().withMaxRatePerSecond(100));
+
+        BatchReport report = batch.deletePosts(IntStream.rangeClosed(1, 21).boxed(), result -> { });
+
+        assertThat(report.succeeded(), equalTo(21L));
+        assertThat(report.elapsed().toMillis(), greaterThanOrEqualTo(200L));
+        assertThat(report.throughputPerSecond(), lessThanOrEqualTo(110.0));
+    }
+
+    @Test
+    @DisplayName("Lote deve contar falhas e guardar só as primeiras para diagnóstico")
+    void deveRegistrarFalhasSemGuardarTodasAsRespostas() {
+        BatchOptions options = new BatchOptions(MAX_IN_FLIGHT, 0, 5);
+        PostsBatch batch = new PostsBatch(postsEndpoint, options);
+        LongAdder callbacks = new LongAdder();
+
+        BatchReport report = batch.run(IntStream.range(0, 40).boxed(),
+                index -> postsEndpoint.getPostById(index % 2 == 0 ? 1 : 99999), result -> callbacks.increment());
+
+        assertThat(callbacks.sum(), equalTo(40L));
+        assertThat(report.succeeded(), equalTo(20L));
+        assertThat(report.failed(), equalTo(20L));
+        assertThat(report.failures(), hasSize(5));
+        assertThat(report.failures().get(0).statusCode(), equalTo(404));
+    }
+
+    @Test
+    @DisplayName("Asserção que falha no callback deve falhar o lote e interromper novos envios")
+    void deveFalharLoteQuandoCallbackFalha() {
+        PostsBatch batch = new PostsBatch(postsEndpoint, BatchOptions.defaults().withMaxInFlight(2));
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> postIds = IntStream.range(0, 200).boxed().peek(index -> pulled.incrementAndGet());
+
+        AssertionError error = assertThrows(AssertionError.class, () -> batch.run(postIds,
+                index -> postsEndpoint.getPostById(index == 3 ? 99999 : 1),
+                result -> assertThat(result.statusCode(), equalTo(200))));
+
+        assertThat(error.getMessage(), containsString("404"));
+        assertThat(pulled.get(), lessThan(200));
+    }
+}
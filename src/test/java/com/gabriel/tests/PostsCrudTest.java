@@ -2,18 +2,26 @@ package com.gabriel.tests;
 
 import com.gabriel.base.BaseTest;
 import com.gabriel.config.TestData;
+import com.gabriel.endpoints.ApiResponse;
 import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.models.Post;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.payloads.PatchPostPayload;
 import com.gabriel.payloads.PostPayload;
+import com.gabriel.payloads.UpdatePostPayload;
+import com.gabriel.schema.JsonSchemas;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
+import static com.gabriel.schema.SchemaMatchers.everyElementMatchesSchema;
+import static com.gabriel.schema.SchemaMatchers.matchesSchema;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
-import static org.hamcrest.Matchers.notNullValue;
 
 class PostsCrudTest extends BaseTest {
 
@@ -24,21 +32,22 @@ class PostsCrudTest extends BaseTest {
     @Test
     @DisplayName("GET /posts deve retornar lista de posts")
     void deveListarPostsComSucesso() {
-        Response response = postsEndpoint.getPosts();
+        ApiResponse response = ApiResponse.of(postsEndpoint.getPosts());
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("size()"), greaterThan(0));
+        assertThat(response, everyElementMatchesSchema(JsonSchemas.POST));
+        assertThat(response.asPosts().size(), greaterThan(0));
     }
 
     @Test
     @DisplayName("GET /posts/{id} deve retornar um post existente")
     void deveBuscarPostPorIdComSucesso() {
-        Response response = postsEndpoint.getPostById(EXISTING_POST_ID);
+        ApiResponse response = ApiResponse.of(postsEndpoint.getPostById(EXISTING_POST_ID));
+        Post post = response.asPost();
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("id"), equalTo(EXISTING_POST_ID));
-        assertThat(response.path("title"), notNullValue());
-        assertThat(response.path("userId"), notNullValue());
+        assertThat(response, matchesSchema(JsonSchemas.POST));
+        assertThat(post.id(), equalTo(EXISTING_POST_ID));
     }
 
     @Test
@@ -53,19 +62,20 @@ class PostsCrudTest extends BaseTest {
     @DisplayName("POST /posts deve criar novo post")
     void deveCriarNovoPost() {
         Map<String, Object> data = TestData.getCreatePostData();
-        Map<String, Object> payload = PostPayload.create(
+        CreatePostPayload payload = PostPayload.create(
                 data.get("title").toString(),
                 data.get("body").toString(),
                 Integer.parseInt(data.get("userId").toString())
         );
 
-        Response response = postsEndpoint.createPost(payload);
+        ApiResponse response = ApiResponse.of(postsEndpoint.createPost(payload));
+        Post created = response.asPost();
 
         assertThat(response.statusCode(), equalTo(201));
-        assertThat(response.path("title"), equalTo(payload.get("title")));
-        assertThat(response.path("body"), equalTo(payload.get("body")));
-        assertThat(response.path("userId"), equalTo(payload.get("userId")));
-        assertThat(response.path("id"), notNullValue());
+        assertThat(response, matchesSchema(JsonSchemas.POST));
+        assertThat(created.title(), equalTo(payload.title()));
+        assertThat(created.body(), equalTo(payload.body()));
+        assertThat(created.userId(), equalTo(payload.userId()));
     }
 
     @Test
@@ -74,20 +84,22 @@ class PostsCrudTest extends BaseTest {
         Map<String, Object> data = TestData.getUpdatePostData();
         int postId = Integer.parseInt(data.get("id").toString());
 
-        Map<String, Object> payload = PostPayload.update(
+        UpdatePostPayload payload = PostPayload.update(
                 postId,
                 data.get("title").toString(),
                 data.get("body").toString(),
                 Integer.parseInt(data.get("userId").toString())
         );
 
-        Response response = postsEndpoint.updatePost(postId, payload);
+        ApiResponse response = ApiResponse.of(postsEndpoint.updatePost(postId, payload));
+        Post updated = response.asPost();
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("id"), equalTo(postId));
-        assertThat(response.path("title"), equalTo(payload.get("title")));
-        assertThat(response.path("body"), equalTo(payload.get("body")));
-        assertThat(response.path("userId"), equalTo(payload.get("userId")));
+        assertThat(response, matchesSchema(JsonSchemas.POST));
+        assertThat(updated.id(), equalTo(postId));
+        assertThat(updated.title(), equalTo(payload.title()));
+        assertThat(updated.body(), equalTo(payload.body()));
+        assertThat(updated.userId(), equalTo(payload.userId()));
     }
 
     @Test
@@ -95,13 +107,15 @@ class PostsCrudTest extends BaseTest {
     void deveAtualizarParcialmentePost() {
         Map<String, Object> data = TestData.getPatchPostData();
         int postId = Integer.parseInt(data.get("id").toString());
-        Map<String, Object> payload = PostPayload.patch(data.get("title").toString());
+        PatchPostPayload payload = PostPayload.patch(data.get("title").toString());
 
-        Response response = postsEndpoint.patchPost(postId, payload);
+        ApiResponse response = ApiResponse.of(postsEndpoint.patchPost(postId, payload));
+        Post patched = response.asPost();
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("id"), equalTo(postId));
-        assertThat(response.path("title"), equalTo(payload.get("title")));
+        assertThat(response, matchesSchema(JsonSchemas.POST));
+        assertThat(patched.id(), equalTo(postId));
+        assertThat(patched.title(), equalTo(payload.title()));
     }
 
     @Test
@@ -115,20 +129,24 @@ class PostsCrudTest extends BaseTest {
     @Test
     @DisplayName("GET /posts?userId=1 deve filtrar posts por usuário")
     void deveFiltrarPostsPorUserId() {
-        Response response = postsEndpoint.getPostsByUserId(1);
+        ApiResponse response = ApiResponse.of(postsEndpoint.getPostsByUserId(1));
+        List<Post> posts = response.asPosts();
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("size()"), greaterThan(0));
-        assertThat(response.path("[0].userId"), equalTo(1));
+        assertThat(response, everyElementMatchesSchema(JsonSchemas.POST));
+        assertThat(posts.size(), greaterThan(0));
+        assertThat(posts.get(0).userId(), equalTo(1));
     }
 
     @Test
     @DisplayName("GET /posts/1/comments deve listar comentários do post")
     void deveListarComentariosPorPost() {
-        Response response = postsEndpoint.getCommentsByPostId(EXISTING_POST_ID);
+        ApiResponse response = ApiResponse.of(postsEndpoint.getCommentsByPostId(EXISTING_POST_ID));
+        int comments = response.forEachComment(comment ->
+                assertThat(comment.postId(), equalTo(EXISTING_POST_ID)));
 
         assertThat(response.statusCode(), equalTo(200));
-        assertThat(response.path("size()"), greaterThan(0));
-        assertThat(response.path("[0].postId"), equalTo(EXISTING_POST_ID));
+        assertThat(response, everyElementMatchesSchema(JsonSchemas.COMMENT));
+        assertThat(comments, greaterThan(0));
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.data.NdjsonRecords;
+import com.gabriel.data.NdjsonSource;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.models.Post;
+import com.gabriel.payloads.CreatePostPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+class PostsDataDrivenTest extends BaseTest {
+
+    private static final int LARGE_FILE_RECORDS = 100_000;
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint();
+
+    @ParameterizedTest(name = "POST /posts com userId={0}")
+    @NdjsonSource(value = "data/posts-create.ndjson", type = CreatePostPayload.class)
+    @DisplayName("POST /posts deve criar cada post da massa NDJSON")
+    void deveCriarPostsDaMassaNdjson(CreatePostPayload payload) {
+        ApiResponse response = ApiResponse.of(postsEndpoint.createPost(payload));
+        Post created = response.asPost();
+
+        assertThat(response.statusCode(), equalTo(201));
+        assertThat(created.title(), equalTo(payload.title()));
+        assertThat(created.body(), equalTo(payload.body()));
+        assertThat(created.userId(), equalTo(payload.userId()));
+        assertThat(created.id(), notNullValue());
+    }
+
+    @ParameterizedTest
+    @NdjsonSource(value = "data/posts-create.ndjson", limit = 2)
+    @DisplayName("Provider deve respeitar o limite e entregar registros como Map")
+    void deveEntregarRegistrosComoMap(Map<String, Object> record) {
+        assertThat(record.get("title"), notNullValue());
+        assertThat(record.get("userId"), notNullValue());
+    }
+
+    @Test
+    @DisplayName("Arquivo NDJSON grande deve ser lido em streaming, registro a registro")
+    void deveLerArquivoGrandeEmStreaming(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("posts.ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int index = 1; index <= LARGE_FILE_RECORDS; index++) {
+                writer.write("{\"title\":\"post " + index + "\",\"body\":\"corpo\",\"userId\":" + (index % 10 + 1) + "}\n");
+            }
+        }
+
+        try (Stream<CreatePostPayload> records = NdjsonRecords.stream(file, CreatePostPayload.class)) {
+            long userIdSum = records.mapToLong(CreatePostPayload::userId).sum();
+
+            assertThat(userIdSum, equalTo(LARGE_FILE_RECORDS / 10L * 55));
+        }
+    }
+}
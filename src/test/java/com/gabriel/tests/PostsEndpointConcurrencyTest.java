@@ -0,0 +1,47 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.PostsEndpoint;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class PostsEndpointConcurrencyTest extends BaseTest {
+
+    private static final int CONCURRENT_CALLS = 50;
+
+    @Test
+    @DisplayName("Setup global não deve alterar o estado estático do RestAssured")
+    void naoDeveAlterarEspecificacaoGlobal() {
+        assertThat(RestAssured.requestSpecification, nullValue());
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes devem usar especificações independentes")
+    void deveExecutarChamadasConcorrentesComSeguranca() throws Exception {
+        PostsEndpoint sharedEndpoint = new PostsEndpoint(localBaseUrl());
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int call = 0; call < CONCURRENT_CALLS; call++) {
+                int postId = call % 100 + 1;
+                PostsEndpoint endpoint = call % 2 == 0 ? sharedEndpoint : new PostsEndpoint(localBaseUrl());
+                results.add(executor.submit(() -> endpoint.getPostById(postId).path("id")));
+            }
+        }
+
+        for (int call = 0; call < CONCURRENT_CALLS; call++) {
+            assertThat(results.get(call).get(), equalTo(call % 100 + 1));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.load.DistributedLoadReport;
+import com.gabriel.load.LoadCoordinator;
+import com.gabriel.load.LoadGenerator;
+import com.gabriel.load.LoadProfile;
+import com.gabriel.load.LoadReport;
+import com.gabriel.logging.TestLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@Tag("load")
+class PostsLoadTest extends BaseTest {
+
+    @Test
+    @DisplayName("Carga configurada em config.properties deve respeitar a taxa máxima de erros")
+    void deveExecutarCargaConfigurada() {
+        LoadProfile profile = LoadProfile.fromConfig();
+
+        LoadReport report;
+        String summary;
+        if (TestConfig.getLoadWorkers() > 1) {
+            DistributedLoadReport distributed = LoadCoordinator.fromConfig().run(profile, TestConfig.getBaseUrl());
+            summary = "Resumo da carga distribuída (" + profile.model() + ", "
+                    + distributed.workers().size() + " workers):\n" + distributed.format();
+            report = distributed.merged();
+        } else {
+            report = LoadGenerator.fromConfig(new PostsEndpoint()).run(profile);
+            summary = "Resumo da carga (" + profile.model() + "):\n" + report.format();
+        }
+        writeSummary(Path.of(TestConfig.getLoadOutputFile()), summary);
+        TestLog.info(summary);
+
+        assertThat(report.totalRequests(), greaterThan(0L));
+        assertThat(report.errorRate(), lessThanOrEqualTo(TestConfig.getLoadMaxErrorRate()));
+    }
+
+    private static void writeSummary(Path file, String summary) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, summary);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Falha ao gravar resumo da carga em " + file + ".", error);
+        }
+    }
+}
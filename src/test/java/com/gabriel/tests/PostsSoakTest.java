@@ -0,0 +1,33 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.logging.TestLog;
+import com.gabriel.soak.SoakProfile;
+import com.gabriel.soak.SoakReport;
+import com.gabriel.soak.SoakRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@Tag("soak")
+class PostsSoakTest extends BaseTest {
+
+    @Test
+    @DisplayName("Soak configurado não deve reter heap, conexões ou threads após o aquecimento")
+    void deveExecutarSoakSemVazamentos() {
+        SoakReport report = new SoakRunner(new PostsEndpoint())
+                .run(SoakProfile.fromConfig(), Path.of(TestConfig.getSoakOutputFile()));
+        TestLog.info(() -> "Resumo do soak:\n" + report.format());
+
+        assertThat(report.leaks(), empty());
+        assertThat(report.load().errorRate(), lessThanOrEqualTo(TestConfig.getLoadMaxErrorRate()));
+    }
+}
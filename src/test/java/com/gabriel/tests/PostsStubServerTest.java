@@ -0,0 +1,72 @@
+package com.gabriel.tests;
+
+import com.gabriel.server.PostsStubServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+
+class PostsStubServerTest {
+
+    private static PostsStubServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = PostsStubServer.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Servidor local deve subir em porta efêmera no loopback")
+    void deveSubirEmPortaEfemera() {
+        assertThat(server.getPort(), greaterThan(0));
+        assertThat(server.getBaseUrl(), equalTo("http://127.0.0.1:" + server.getPort()));
+    }
+
+    @Test
+    @DisplayName("Servidor local deve servir as mesmas rotas de posts do JSONPlaceholder")
+    void deveServirRotasDePosts() {
+        assertThat(get("/posts").path("size()"), equalTo(100));
+        assertThat(get("/posts/1").path("id"), equalTo(1));
+        assertThat(get("/posts/99999").statusCode(), equalTo(404));
+        assertThat(get("/posts?userId=2").path("userId"), everyItem(equalTo(2)));
+        assertThat(get("/posts/3/comments").path("postId"), everyItem(equalTo(3)));
+    }
+
+    @Test
+    @DisplayName("Servidor local deve simular escrita sem alterar a massa")
+    void deveSimularEscritaSemPersistir() {
+        Response created = given().baseUri(server.getBaseUrl())
+                .contentType("application/json")
+                .body(Map.of("title", "foo", "body", "bar", "userId", 1))
+                .post("/posts");
+        Response patched = given().baseUri(server.getBaseUrl())
+                .contentType("application/json")
+                .body(Map.of("title", "novo"))
+                .patch("/posts/1");
+
+        assertThat(created.statusCode(), equalTo(201));
+        assertThat(created.path("id"), equalTo(101));
+        assertThat(patched.path("title"), equalTo("novo"));
+        assertThat(patched.path("userId"), equalTo(1));
+        assertThat(get("/posts/1").path("title"), not(equalTo("novo")));
+    }
+
+    private static Response get(String path) {
+        return given().baseUri(server.getBaseUrl()).get(path);
+    }
+}
@@ -0,0 +1,111 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.config.TestConfig;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.replay.RecordReplayFilter;
+import com.gabriel.replay.ReplayMode;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordReplayTest extends BaseTest {
+
+    private static final String UNREACHABLE_URL = "http://127.0.0.1:1";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Replay deve servir as respostas gravadas sem acessar a rede")
+    void deveReproduzirRespostasGravadas() {
+        Path log = directory.resolve("interactions.ndjson");
+        RecordReplayFilter recorder = new RecordReplayFilter(ReplayMode.RECORD, log);
+        Response recordedGet = request(localBaseUrl(), recorder).get("/posts/{id}", 1);
+        Response recordedPost = request(localBaseUrl(), recorder)
+                .body("{\"title\":\"foo\",\"body\":\"bar\",\"userId\":1}")
+                .post("/posts");
+        recorder.finish();
+        RequestMetrics.currentScope().orElseThrow().reset();
+
+        RecordReplayFilter replayer = new RecordReplayFilter(ReplayMode.STRICT, log);
+        Response replayedGet = request(UNREACHABLE_URL, replayer).get("/posts/{id}", 1);
+        Response replayedPost = request(UNREACHABLE_URL, replayer)
+                .body("{\"userId\":1, \"body\":\"bar\", \"title\":\"foo\"}")
+                .post("/posts");
+
+        assertThat(replayer.recordedInteractions(), equalTo(2));
+        assertThat(replayedGet.statusCode(), equalTo(200));
+        assertThat(ApiResponse.of(replayedGet).asPost(), equalTo(ApiResponse.of(recordedGet).asPost()));
+        assertThat(replayedPost.statusCode(), equalTo(201));
+        assertThat(replayedPost.path("id"), equalTo(recordedPost.path("id")));
+        assertThat(RequestMetrics.currentScope().orElseThrow().snapshot("GET /posts/{id}").isPresent(),
+                equalTo(false));
+    }
+
+    @Test
+    @DisplayName("Modo estrito deve falhar quando a requisição não está no log")
+    void deveFalharNoModoEstritoSemGravacao() {
+        Path log = directory.resolve("interactions.ndjson");
+        RecordReplayFilter recorder = new RecordReplayFilter(ReplayMode.RECORD, log);
+        request(localBaseUrl(), recorder).get("/posts/{id}", 1);
+        recorder.finish();
+        RecordReplayFilter replayer = new RecordReplayFilter(ReplayMode.STRICT, log);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> request(UNREACHABLE_URL, replayer).get("/posts/{id}", 2));
+
+        assertThat(error.getMessage(), containsString("GET /posts/2"));
+    }
+
+    @Test
+    @DisplayName("Replay não estrito deve seguir para o servidor quando a requisição não está no log")
+    void deveSeguirParaServidorNoReplaySemGravacao() {
+        Path log = directory.resolve("interactions.ndjson");
+        RecordReplayFilter recorder = new RecordReplayFilter(ReplayMode.RECORD, log);
+        request(localBaseUrl(), recorder).get("/posts/{id}", 1);
+        recorder.finish();
+        RecordReplayFilter replayer = new RecordReplayFilter(ReplayMode.REPLAY, log);
+
+        Response response = request(localBaseUrl(), replayer).get("/posts/{id}", 2);
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.path("id"), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("Gravação deve substituir o log versionado só ao final da execução")
+    void devePreservarLogAteFimDaGravacao() throws IOException {
+        Path log = directory.resolve("interactions.ndjson");
+        Files.writeString(log, "gravacao anterior\n");
+        RecordReplayFilter recorder = new RecordReplayFilter(ReplayMode.RECORD, log);
+
+        request(localBaseUrl(), recorder).get("/posts/{id}", 1);
+
+        assertThat(Files.readString(log), equalTo("gravacao anterior\n"));
+        recorder.finish();
+        assertThat(Files.readString(log), containsString("GET /posts/1"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.toList(), contains(log));
+        }
+    }
+
+    private static RequestSpecification request(String baseUrl, RecordReplayFilter filter) {
+        return given().baseUri(baseUrl).contentType(TestConfig.getContentType()).filter(filter);
+    }
+}
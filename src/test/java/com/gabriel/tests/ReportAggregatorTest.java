@@ -0,0 +1,192 @@
+package com.gabriel.tests;
+
+import com.gabriel.reports.AggregatedReport;
+import com.gabriel.reports.ReportAggregator;
+import com.gabriel.reports.SurefireReportReader;
+import com.gabriel.reports.TestCaseResult;
+import com.gabriel.reports.TestHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReportAggregatorTest {
+
+    private static final String SUITE = "com.example.SampleTest";
+    private static final ReportAggregator AGGREGATOR = new ReportAggregator(2, 1.5, 100, 3, 2);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Milhares de relatórios devem ser lidos caso a caso, sem montar a lista de suítes")
+    void deveLerMilharesDeRelatoriosEmStreaming() throws IOException {
+        Path reports = Files.createDirectories(directory.resolve("reports"));
+        for (int file = 0; file < 2_000; file++) {
+            writeReport(reports, "com.example.Suite" + file, new Case("a", 0.01, "P"), new Case("b", 0.02, "F"));
+        }
+        AtomicLong failures = new AtomicLong();
+        AtomicLong cases = new AtomicLong();
+
+        int files = SurefireReportReader.forEachTestCase(reports, testCase -> {
+            cases.incrementAndGet();
+            if (testCase.status() == TestCaseResult.Status.FAILED) {
+                failures.incrementAndGet();
+            }
+        });
+
+        assertThat(files, equalTo(2_000));
+        assertThat(cases.get(), equalTo(4_000L));
+        assertThat(failures.get(), equalTo(2_000L));
+    }
+
+    @Test
+    @DisplayName("Relatório deve listar os testes mais lentos e somar invocações parametrizadas")
+    void deveListarTestesMaisLentos() throws IOException {
+        Path run = run(0, new Case("rapido", 0.05, "P"), new Case("lento(int)[1]", 0.4, "P"),
+                new Case("lento(int)[2]", 0.5, "F"), new Case("medio", 0.3, "P"), new Case("ignorado", 0, "S"));
+
+        AggregatedReport report = AGGREGATOR.aggregate(run, TestHistory.empty(5));
+
+        assertThat(report.tests(), equalTo(4L));
+        assertThat(report.failures(), equalTo(1L));
+        assertThat(report.skipped(), equalTo(1L));
+        assertThat(report.slowest().stream().map(AggregatedReport.TestTiming::key).toList(),
+                contains(SUITE + "#lento", SUITE + "#medio"));
+        assertThat(report.slowest().get(0).millis(), equalTo(900L));
+        assertThat(report.slowest().get(0).status(), equalTo(TestCaseResult.Status.FAILED));
+    }
+
+    @Test
+    @DisplayName("Duração bem acima da mediana do histórico deve ser apontada como regressão")
+    void deveApontarRegressaoDeDuracao() throws IOException {
+        TestHistory history = TestHistory.empty(10);
+        double[] durations = {0.2, 0.21, 0.9, 0.19};
+        for (int index = 0; index < durations.length; index++) {
+            AggregatedReport report = AGGREGATOR.aggregate(run(index, new Case("estavel", durations[index], "P"),
+                    new Case("oscila", 0.2, "P")), history);
+            assertThat(report.regressions(), empty());
+        }
+
+        AggregatedReport report = AGGREGATOR.aggregate(run(9, new Case("estavel", 0.2, "P"),
+                new Case("oscila", 0.5, "P")), history);
+
+        assertThat(report.regressions(), hasSize(1));
+        AggregatedReport.Regression regression = report.regressions().get(0);
+        assertThat(regression.key(), equalTo(SUITE + "#oscila"));
+        assertThat(regression.baselineMillis(), equalTo(200L));
+        assertThat(regression.currentMillis(), equalTo(500L));
+        assertThat(report.format(), containsString("200 ms -> 500 ms"));
+    }
+
+    @Test
+    @DisplayName("Teste que alterna entre passar e falhar deve ser marcado como instável")
+    void deveMarcarTesteInstavel() throws IOException {
+        TestHistory history = TestHistory.empty(10);
+        String[] flaky = {"P", "F", "P", "P", "F"};
+        String[] broken = {"P", "P", "F", "F", "F"};
+        AggregatedReport report = null;
+        for (int index = 0; index < flaky.length; index++) {
+            report = AGGREGATOR.aggregate(run(index, new Case("instavel", 0.1, flaky[index]),
+                    new Case("quebrado", 0.1, broken[index])), history);
+        }
+
+        assertThat(report.flaky(), hasSize(1));
+        AggregatedReport.FlakyTest test = report.flaky().get(0);
+        assertThat(test.key(), equalTo(SUITE + "#instavel"));
+        assertThat(test.flips(), equalTo(3));
+        assertThat(test.failures(), equalTo(2));
+        assertThat(test.outcomes(), equalTo("PFPPF"));
+    }
+
+    @Test
+    @DisplayName("Histórico deve ser persistido compacto, com janela limitada por teste")
+    void devePersistirHistoricoCompacto() throws IOException {
+        Path store = directory.resolve(".test-history");
+        for (int index = 0; index < 8; index++) {
+            TestHistory history = TestHistory.load(store, 3);
+            AGGREGATOR.aggregate(run(index, new Case("a", 0.1 * (index + 1), "P"), new Case("b", 0.01, "E")),
+                    history);
+            history.save(store);
+        }
+
+        TestHistory reloaded = TestHistory.load(store, 3);
+        List<String> lines = Files.readAllLines(store.resolve(TestHistory.FILE_NAME));
+
+        assertThat(reloaded.runs(), equalTo(8));
+        assertThat(lines, hasSize(3));
+        assertThat(reloaded.samples(SUITE + "#a").stream().map(TestHistory.Sample::millis).toList(),
+                contains(600L, 700L, 800L));
+        assertThat(reloaded.samples(SUITE + "#b").get(0).status(), equalTo(TestCaseResult.Status.ERROR));
+        assertThat(lines.get(1), equalTo(SUITE + "#a\t8\tP:600 P:700 P:800"));
+    }
+
+    @Test
+    @DisplayName("Teste ausente por muitas execuções deve sair do histórico")
+    void deveEsquecerTesteAusente() {
+        TestHistory history = TestHistory.empty(2);
+        history.record(Map.of("antigo", new TestHistory.Sample(TestCaseResult.Status.PASSED, 10)));
+        for (int run = 0; run < 9; run++) {
+            history.record(Map.of("novo", new TestHistory.Sample(TestCaseResult.Status.PASSED, 10)));
+        }
+        assertThat(history.samples("antigo"), hasSize(1));
+
+        history.record(Map.of("novo", new TestHistory.Sample(TestCaseResult.Status.PASSED, 10)));
+
+        assertThat(history.samples("antigo"), empty());
+        assertThat(history.size(), equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Diretório sem relatórios deve falhar em vez de gravar execução vazia")
+    void deveFalharSemRelatorios() {
+        TestHistory history = TestHistory.empty(5);
+
+        assertThrows(IllegalStateException.class, () -> AGGREGATOR.aggregate(directory, history));
+        assertThat(history.runs(), equalTo(0));
+    }
+
+    private record Case(String name, double seconds, String outcome) {
+    }
+
+    private Path run(int index, Case... cases) throws IOException {
+        Path run = Files.createDirectories(directory.resolve("run-" + index));
+        writeReport(run, SUITE, cases);
+        return run;
+    }
+
+    private static void writeReport(Path directory, String suite, Case... cases) throws IOException {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<testsuite name=\"").append(suite).append("\" tests=\"").append(cases.length).append("\">\n")
+                .append("  <properties><property name=\"java.version\" value=\"21\"/></properties>\n");
+        for (Case testCase : cases) {
+            xml.append(String.format(Locale.ROOT, "  <testcase name=\"%s\" classname=\"%s\" time=\"%.3f\">",
+                    testCase.name(), suite, testCase.seconds()));
+            switch (testCase.outcome()) {
+                case "F" -> xml.append("<failure message=\"falhou\">stack</failure>");
+                case "E" -> xml.append("<error message=\"erro\">stack</error>");
+                case "S" -> xml.append("<skipped/>");
+                default -> {
+                }
+            }
+            xml.append("</testcase>\n");
+        }
+        xml.append("  <system-out><![CDATA[saida]]></system-out>\n</testsuite>\n");
+        Files.writeString(directory.resolve("TEST-" + suite + ".xml"), xml);
+    }
+}
@@ -0,0 +1,77 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.MetricsExporter;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.payloads.PostPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class RequestMetricsTest extends BaseTest {
+
+    private final PostsEndpoint postsEndpoint = new PostsEndpoint(localBaseUrl());
+
+    @Test
+    @DisplayName("Filtro deve agrupar medições pelo template da rota, não pela URL expandida")
+    void deveAgruparPorTemplateDeRota() {
+        long before = countOf("GET /posts/{id}");
+
+        postsEndpoint.getPostById(1);
+        postsEndpoint.getPostById(2);
+        postsEndpoint.getPostById(3);
+
+        EndpointSnapshot snapshot = RequestMetrics.shared().snapshot("GET /posts/{id}").orElseThrow();
+        assertThat(snapshot.count() - before, greaterThanOrEqualTo(3L));
+        assertThat(snapshot.responseBytes(), greaterThan(0L));
+        assertThat(snapshot.firstByte().p50(), lessThanOrEqualTo(snapshot.latency().max()));
+        assertThat(RequestMetrics.shared().snapshot("GET /posts/1").isPresent(), equalTo(false));
+    }
+
+    @Test
+    @DisplayName("Filtro deve contar os bytes enviados no corpo da requisição")
+    void deveContarBytesEnviados() {
+        byte[] body = PostPayload.create("foo", "bar", 1).toJson();
+        long before = RequestMetrics.shared().snapshot("POST /posts").map(EndpointSnapshot::requestBytes).orElse(0L);
+
+        postsEndpoint.createPost(PostPayload.create("foo", "bar", 1));
+
+        long after = RequestMetrics.shared().snapshot("POST /posts").orElseThrow().requestBytes();
+        assertThat(after - before, greaterThanOrEqualTo((long) body.length));
+    }
+
+    @Test
+    @DisplayName("Exportação deve gerar JSON e formato texto do Prometheus")
+    void deveExportarJsonEPrometheus(@TempDir Path directory) throws IOException {
+        postsEndpoint.getPosts();
+        List<EndpointSnapshot> endpoints = RequestMetrics.shared().snapshot();
+
+        MetricsExporter.export(directory, endpoints);
+
+        List<EndpointSnapshot> exported = MetricsExporter.read(directory.resolve(MetricsExporter.JSON_FILE));
+        String prometheus = Files.readString(directory.resolve(MetricsExporter.PROMETHEUS_FILE));
+        assertThat(exported.stream().map(EndpointSnapshot::route).toList(), hasItem("GET /posts"));
+        assertThat(prometheus, containsString(
+                "posts_endpoint_request_duration_seconds{method=\"GET\",route=\"/posts\",quantile=\"0.99\"}"));
+        assertThat(prometheus, containsString("# TYPE posts_endpoint_response_bytes_total counter"));
+    }
+
+    private static long countOf(String route) {
+        return RequestMetrics.shared().snapshot(route).map(EndpointSnapshot::count).orElse(0L);
+    }
+}
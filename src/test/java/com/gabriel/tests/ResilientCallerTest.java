@@ -0,0 +1,154 @@
+package com.gabriel.tests;
+
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.http.ResilientCaller;
+import com.gabriel.http.RouteCallStats;
+import com.gabriel.http.RoutePolicy;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.payloads.CreatePostPayload;
+import com.gabriel.server.PostsStubServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilientCallerTest {
+
+    private static final String GET_POST = "GET /posts/{id}";
+    private static final RoutePolicy NO_HEDGE = new RoutePolicy(5000, 10000, 2, 1, 5, false, 50, 20);
+
+    private static PostsStubServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = PostsStubServer.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("GET deve ser repetido após erros 5xx até receber resposta válida")
+    void deveRepetirGetAposErroDoServidor() {
+        ResilientCaller caller = caller(NO_HEDGE);
+        server.injectFault("GET", "/posts/1", 0, 503);
+        server.injectFault("GET", "/posts/1", 0, 500);
+
+        Response response = endpoint(caller).getPostById(1);
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(caller.stats(GET_POST).retries(), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("POST não deve ser repetido porque não é idempotente")
+    void naoDeveRepetirMetodoNaoIdempotente() {
+        ResilientCaller caller = caller(NO_HEDGE);
+        server.injectFault("POST", "/posts", 0, 503);
+
+        Response response = endpoint(caller).createPost(new CreatePostPayload("titulo", "corpo", 1));
+
+        assertThat(response.statusCode(), equalTo(503));
+        assertThat(caller.stats("POST /posts").retries(), equalTo(0L));
+    }
+
+    @Test
+    @DisplayName("Timeout de leitura da rota deve interromper a chamada lenta")
+    void deveAplicarTimeoutDeLeituraDaRota() {
+        ResilientCaller caller = caller(NO_HEDGE.withReadTimeoutMillis(200).withRetries(0, 0, 0));
+        server.injectFault("GET", "/posts/2", 1000, 0);
+
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () -> endpoint(caller).getPostById(2));
+
+        assertThat(error.getCause(), instanceOf(SocketTimeoutException.class));
+        assertThat(caller.stats(GET_POST).timeouts(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("Retry deve recuperar a chamada após um timeout")
+    void deveRecuperarAposTimeoutComRetry() {
+        ResilientCaller caller = caller(NO_HEDGE.withReadTimeoutMillis(200));
+        server.injectFault("GET", "/posts/3", 1000, 0);
+
+        Response response = endpoint(caller).getPostById(3);
+
+        RouteCallStats stats = caller.stats(GET_POST);
+        assertThat(response.path("id"), equalTo(3));
+        assertThat(stats.timeouts(), equalTo(1L));
+        assertThat(stats.retries(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("GET lento deve disparar hedge e usar a resposta que chegar primeiro")
+    void deveUsarRespostaDoHedgeQuandoPrimariaAtrasa() {
+        ResilientCaller caller = caller(NO_HEDGE.withHedge(true, 100, Integer.MAX_VALUE));
+        server.injectFault("GET", "/posts/4", 2000, 0);
+
+        long started = System.nanoTime();
+        Response response = endpoint(caller).getPostById(4);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        RouteCallStats stats = caller.stats(GET_POST);
+        assertThat(response.path("id"), equalTo(4));
+        assertThat(elapsedMillis, lessThan(1500L));
+        assertThat(stats.hedgesFired(), equalTo(1L));
+        assertThat(stats.hedgesWon(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("Atraso do hedge deve seguir o p95 da rota quando há amostras suficientes")
+    void deveCalcularAtrasoDoHedgePeloP95() {
+        RequestMetrics metrics = new RequestMetrics();
+        RoutePolicy policy = NO_HEDGE.withHedge(true, 5, 20);
+        ResilientCaller caller = new ResilientCaller(metrics, route -> policy);
+
+        assertThat(caller.hedgeDelayMillis(GET_POST, policy), equalTo(5L));
+
+        for (int sample = 0; sample < 100; sample++) {
+            metrics.record(GET_POST, TimeUnit.MILLISECONDS.toNanos(sample < 95 ? 40 : 400), 0, 0, 0, 0, false);
+        }
+        long delay = caller.hedgeDelayMillis(GET_POST, policy);
+        assertThat(delay >= 40 && delay < 400, equalTo(true));
+    }
+
+    @Test
+    @DisplayName("Política deve aceitar valores específicos por rota no TestConfig")
+    void deveLerPoliticaPorRota() {
+        String route = "GET /politica/{id}";
+        System.setProperty("http.socket.timeout.ms[" + route + "]", "1234");
+        System.setProperty("http.hedge.enabled[" + route + "]", "true");
+        try {
+            RoutePolicy policy = RoutePolicy.forRoute(route);
+            RoutePolicy defaults = RoutePolicy.forRoute("GET /outra");
+
+            assertThat(policy.readTimeoutMillis(), equalTo(1234));
+            assertThat(policy.hedgeEnabled(), equalTo(true));
+            assertThat(defaults.hedgeEnabled(), equalTo(false));
+            assertThat(policy.maxRetries(), equalTo(defaults.maxRetries()));
+        } finally {
+            System.clearProperty("http.socket.timeout.ms[" + route + "]");
+            System.clearProperty("http.hedge.enabled[" + route + "]");
+        }
+    }
+
+    private static ResilientCaller caller(RoutePolicy policy) {
+        return new ResilientCaller(RequestMetrics.shared(), route -> policy);
+    }
+
+    private static PostsEndpoint endpoint(ResilientCaller caller) {
+        return new PostsEndpoint(server.getBaseUrl(), null, caller);
+    }
+}
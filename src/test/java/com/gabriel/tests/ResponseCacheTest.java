@@ -0,0 +1,146 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.ApiResponse;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.http.ResponseCache;
+import com.gabriel.http.ResponseCacheStats;
+import com.gabriel.metrics.EndpointSnapshot;
+import com.gabriel.metrics.RequestMetrics;
+import com.gabriel.payloads.PostPayload;
+import com.gabriel.server.PostsStubServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponseCacheTest extends BaseTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    @DisplayName("GET repetido dentro do TTL deve ser servido pelo cache")
+    void deveServirRespostaDoCacheDentroDoTtl() {
+        ResponseCache cache = new ResponseCache(ONE_MINUTE, 16);
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), cache);
+
+        Response first = endpoint.getPostById(1);
+        Response second = endpoint.getPostById(1);
+
+        ResponseCacheStats stats = cache.stats();
+        assertThat(stats.misses(), equalTo(1L));
+        assertThat(stats.hits(), equalTo(1L));
+        assertThat(stats.bytesSaved(), equalTo((long) first.asByteArray().length));
+        assertThat(second.statusCode(), equalTo(200));
+        assertThat(second.path("id"), equalTo(1));
+        assertThat(ApiResponse.of(second).asPost(), equalTo(ApiResponse.of(first).asPost()));
+    }
+
+    @Test
+    @DisplayName("Acerto do cache não deve entrar nas métricas de latência como requisição real")
+    void deveManterAcertoDoCacheForaDasMetricas() {
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), new ResponseCache(ONE_MINUTE, 16));
+
+        endpoint.getPostById(1);
+        endpoint.getPostById(1);
+        endpoint.getPostById(1);
+
+        EndpointSnapshot snapshot = RequestMetrics.currentScope().orElseThrow()
+                .snapshot("GET /posts/{id}").orElseThrow();
+        assertThat(snapshot.count(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("GET expirado deve ser revalidado com If-None-Match e 304")
+    void deveRevalidarComEtag() {
+        ResponseCache cache = new ResponseCache(0, 16);
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), cache);
+
+        endpoint.getCommentsByPostId(1);
+        Response revalidated = endpoint.getCommentsByPostId(1);
+
+        ResponseCacheStats stats = cache.stats();
+        assertThat(stats.revalidations(), equalTo(1L));
+        assertThat(stats.bytesSaved(), greaterThan(0L));
+        assertThat(revalidated.statusCode(), equalTo(200));
+        assertThat(revalidated.path("size()"), equalTo(5));
+    }
+
+    @Test
+    @DisplayName("Escrita no recurso deve invalidar o item e a coleção em cache")
+    void deveInvalidarAposEscrita() {
+        ResponseCache cache = new ResponseCache(ONE_MINUTE, 16);
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), cache);
+
+        endpoint.getPosts();
+        endpoint.getPostById(1);
+        endpoint.getPostById(2);
+        endpoint.patchPost(1, PostPayload.patch("novo"));
+        endpoint.getPosts();
+        endpoint.getPostById(1);
+        endpoint.getPostById(2);
+
+        ResponseCacheStats stats = cache.stats();
+        assertThat(stats.invalidations(), equalTo(2L));
+        assertThat(stats.misses(), equalTo(5L));
+        assertThat(stats.hits(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("Escrita que falha no envio deve invalidar o cache mesmo assim")
+    void deveInvalidarQuandoEscritaFalha() {
+        ResponseCache cache = new ResponseCache(ONE_MINUTE, 16);
+        PostsStubServer server = PostsStubServer.start();
+        PostsEndpoint endpoint = new PostsEndpoint(server.getBaseUrl(), cache);
+        endpoint.getPostById(1);
+        server.close();
+
+        assertThrows(RuntimeException.class, () -> endpoint.patchPost(1, PostPayload.patch("novo")));
+
+        assertThat(cache.stats().invalidations(), equalTo(1L));
+        assertThat(cache.stats().entries(), equalTo(0));
+    }
+
+    @Test
+    @DisplayName("Criação na coleção deve invalidar só a coleção")
+    void deveInvalidarSomenteColecaoAposCriacao() {
+        ResponseCache cache = new ResponseCache(ONE_MINUTE, 16);
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), cache);
+
+        endpoint.getPosts();
+        endpoint.getPostById(1);
+        endpoint.createPost(PostPayload.create("foo", "bar", 1));
+        endpoint.getPosts();
+        endpoint.getPostById(1);
+
+        ResponseCacheStats stats = cache.stats();
+        assertThat(stats.invalidations(), equalTo(1L));
+        assertThat(stats.hits(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("Cache deve descartar a entrada menos usada ao atingir o limite")
+    void deveDescartarEntradaMenosUsada() {
+        ResponseCache cache = new ResponseCache(ONE_MINUTE, 2);
+        PostsEndpoint endpoint = new PostsEndpoint(localBaseUrl(), cache);
+
+        endpoint.getPostById(1);
+        endpoint.getPostById(2);
+        endpoint.getPostById(1);
+        endpoint.getPostById(3);
+        endpoint.getPostById(1);
+        endpoint.getPostById(2);
+
+        ResponseCacheStats stats = cache.stats();
+        assertThat(stats.evictions(), equalTo(2L));
+        assertThat(stats.hits(), equalTo(2L));
+        assertThat(stats.misses(), equalTo(4L));
+        assertThat(stats.entries(), equalTo(2));
+    }
+}
@@ -0,0 +1,215 @@
+package com.gabriel.tests;
+
+import com.gabriel.reports.SurefireReportReader;
+import com.gabriel.reports.TestCaseResult;
+import com.gabriel.reports.TestHistory;
+import com.gabriel.reports.TestSuiteResult;
+import com.gabriel.shard.ShardFilter;
+import com.gabriel.shard.ShardPlan;
+import com.gabriel.shard.ShardPlanner;
+import com.gabriel.shard.ShardReportMerger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class ShardingTest {
+
+    private static final String REPORT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <testsuite name="com.example.SampleTest" time="3.5" tests="3" failures="1" skipped="1">
+              <properties><property name="java.version" value="21"/></properties>
+              <testcase name="rapido" classname="com.example.SampleTest" time="0.5"/>
+              <testcase name="lento(int)[1]" classname="com.example.SampleTest" time="2.0">
+                <failure message="esperado 1">stack</failure>
+              </testcase>
+              <testcase name="ignorado" classname="com.example.SampleTest" time="0">
+                <skipped/>
+              </testcase>
+              <system-out><![CDATA[saida]]></system-out>
+            </testsuite>
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Leitor deve extrair duração e status de cada caso do relatório do Surefire")
+    void deveLerRelatorioDoSurefire() throws IOException {
+        Files.writeString(directory.resolve("TEST-com.example.SampleTest.xml"), REPORT);
+
+        List<TestSuiteResult> suites = SurefireReportReader.readDirectory(directory);
+
+        assertThat(suites, hasSize(1));
+        TestSuiteResult suite = suites.get(0);
+        assertThat(suite.seconds(), closeTo(3.5, 0.001));
+        assertThat(suite.testCases(), hasSize(3));
+        assertThat(suite.count(TestCaseResult.Status.FAILED), equalTo(1L));
+        assertThat(suite.count(TestCaseResult.Status.SKIPPED), equalTo(1L));
+        assertThat(suite.testCases().get(1).key(), equalTo("com.example.SampleTest#lento"));
+        assertThat(suite.testCases().get(1).message(), equalTo("esperado 1"));
+    }
+
+    @Test
+    @DisplayName("Plano deve equilibrar os shards e manter classes ordenadas inteiras")
+    void deveEquilibrarShardsEManterClassesOrdenadas() {
+        List<TestSuiteResult> history = List.of(
+                suite("com.example.Ordered", 4.0, 1.0, 1.0, 1.0, 1.0),
+                suite("com.example.Free", 6.0, 3.0, 2.0, 1.0),
+                suite("com.example.Quick", 2.0, 1.0, 1.0));
+
+        ShardPlan plan = ShardPlanner.plan(history, 3, "com.example.Ordered"::equals);
+
+        assertThat(plan.totalSeconds(), closeTo(12.0, 0.001));
+        assertThat(plan.slowestShardSeconds(), lessThanOrEqualTo(4.0 + 0.001));
+        int orderedShard = plan.shardOf("com.example.Ordered", "a0");
+        for (int method = 1; method < 4; method++) {
+            assertThat(plan.shardOf("com.example.Ordered", "a" + method), equalTo(orderedShard));
+        }
+    }
+
+    @Test
+    @DisplayName("Testes sem histórico devem cair sempre no mesmo shard")
+    void deveAtribuirTestesNovosDeFormaEstavel() {
+        ShardPlan plan = ShardPlanner.plan(List.of(), 4, className -> false);
+
+        int shard = plan.shardOf("com.example.NewTest", "novo");
+
+        assertThat(plan.shardOf("com.example.NewTest", "outro"), equalTo(shard));
+        assertThat(ShardPlanner.plan(List.of(), 4, className -> false).shardOf("com.example.NewTest", "novo"),
+                equalTo(shard));
+    }
+
+    @Test
+    @DisplayName("Nós com o mesmo histórico compartilhado devem chegar ao mesmo plano")
+    void deveMontarMesmoPlanoAPartirDoHistoricoCompartilhado() {
+        TestHistory history = TestHistory.empty(5);
+        history.record(Map.of(
+                "com.example.Ordered#a0", new TestHistory.Sample(TestCaseResult.Status.PASSED, 1000),
+                "com.example.Ordered#a1", new TestHistory.Sample(TestCaseResult.Status.PASSED, 1000),
+                "com.example.Free#a0", new TestHistory.Sample(TestCaseResult.Status.PASSED, 1500),
+                "com.example.Free#a1", new TestHistory.Sample(TestCaseResult.Status.FAILED, 500)));
+        history.save(directory);
+
+        ShardPlan plan = ShardPlanner.fromHistory(history, 2, "com.example.Ordered"::equals);
+        ShardPlan otherNode = ShardPlanner.fromHistory(TestHistory.load(directory, 5), 2, "com.example.Ordered"::equals);
+
+        assertThat(otherNode.fingerprint(), equalTo(plan.fingerprint()));
+        assertThat(plan.totalSeconds(), closeTo(4.0, 0.001));
+        assertThat(plan.shardOf("com.example.Ordered", "a1"), equalTo(plan.shardOf("com.example.Ordered", "a0")));
+        assertThat(ShardPlanner.plan(List.of(), 2, className -> false).fingerprint(), not(plan.fingerprint()));
+    }
+
+    @Test
+    @DisplayName("Sharding sem histórico compartilhado deve distribuir pelo nome da classe, igual em todos os nós")
+    void deveDistribuirPeloNomeDaClasseSemHistorico() {
+        ShardPlan plan = ShardPlanner.fromHistory(directory, 2);
+        String className = PostsCrudTest.class.getName();
+
+        assertThat(plan.fingerprint(), equalTo(ShardPlanner.fromHistory(directory, 2).fingerprint()));
+        assertThat(plan.shardOf(className, "deveCriarPost"), equalTo(Math.floorMod(className.hashCode(), 2)));
+        assertThat(plan.shardOf(className, "deveRemoverPost"), equalTo(plan.shardOf(className, "deveCriarPost")));
+    }
+
+    @Test
+    @DisplayName("Filtro deve particionar a suíte sem perder nem repetir testes")
+    void deveParticionarSuiteEntreShards() {
+        List<TestSuiteResult> history = List.of(
+                suite(PostsCrudTest.class.getName(), 2.0, 0.5, 0.5, 0.5, 0.5),
+                suite(PostsTrainingTest.class.getName(), 3.0, 1.0, 1.0, 1.0));
+        ShardPlan plan = ShardPlanner.plan(history, 2,
+                className -> className.equals(PostsTrainingTest.class.getName()));
+
+        List<String> all = new ArrayList<>();
+        Set<Integer> trainingShards = new HashSet<>();
+        for (int shard = 0; shard < plan.shardCount(); shard++) {
+            for (TestIdentifier test : discover(new ShardFilter(plan, shard))) {
+                MethodSource source = (MethodSource) test.getSource().orElseThrow();
+                all.add(source.getClassName() + "#" + source.getMethodName());
+                if (source.getClassName().equals(PostsTrainingTest.class.getName())) {
+                    trainingShards.add(shard);
+                }
+            }
+        }
+
+        List<String> unsharded = discover(null).stream().map(TestIdentifier::getUniqueId).toList();
+        assertThat(all, hasSize(unsharded.size()));
+        assertThat(new HashSet<>(all), hasSize(all.size()));
+        assertThat(trainingShards, hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Resultados dos shards devem ser consolidados em um resumo único")
+    void deveConsolidarResultadosDosShards() throws IOException {
+        Files.createDirectories(directory.resolve("shard-0"));
+        Files.createDirectories(directory.resolve("shard-1"));
+        Files.writeString(directory.resolve("shard-0/TEST-com.example.SampleTest.xml"), REPORT);
+        Files.writeString(directory.resolve("shard-1/TEST-com.example.SampleTest.xml"), REPORT);
+
+        ShardReportMerger.Summary summary = ShardReportMerger.merge(directory);
+
+        assertThat(summary.shards(), equalTo(2));
+        assertThat(summary.tests(), equalTo(6L));
+        assertThat(summary.failures(), equalTo(2L));
+        assertThat(Files.readString(directory.resolve("summary.txt")), containsString("shard-1: 3 teste(s)"));
+        assertThat(SurefireReportReader.readDirectory(directory.resolve("merged")), hasSize(2));
+        assertThat(SurefireReportReader.readDirectory(directory.resolve("shard-9")), empty());
+    }
+
+    private static List<TestIdentifier> discover(ShardFilter filter) {
+        LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(PostsCrudTest.class), selectClass(PostsTrainingTest.class));
+        if (filter != null) {
+            builder.filters(filter);
+        }
+        LauncherDiscoveryRequest request = builder.build();
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+        TestPlan testPlan = launcher.discover(request);
+        List<TestIdentifier> tests = new ArrayList<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            testPlan.getDescendants(root).stream()
+                    .filter(test -> test.getType() != TestDescriptor.Type.CONTAINER)
+                    .forEach(tests::add);
+        }
+        return tests;
+    }
+
+    private static TestSuiteResult suite(String className, double seconds, double... caseSeconds) {
+        List<TestCaseResult> testCases = new ArrayList<>();
+        for (int index = 0; index < caseSeconds.length; index++) {
+            testCases.add(new TestCaseResult(className, "a" + index, caseSeconds[index],
+                    TestCaseResult.Status.PASSED, null));
+        }
+        return new TestSuiteResult(className, seconds, testCases);
+    }
+}
@@ -0,0 +1,88 @@
+package com.gabriel.tests;
+
+import com.gabriel.base.BaseTest;
+import com.gabriel.endpoints.PostsEndpoint;
+import com.gabriel.soak.ResourceSample;
+import com.gabriel.soak.SoakProfile;
+import com.gabriel.soak.SoakReport;
+import com.gabriel.soak.SoakRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+
+class SoakRunnerTest extends BaseTest {
+
+    private static final SoakProfile PROFILE = new SoakProfile(Duration.ofSeconds(2), Duration.ofMillis(500),
+            Duration.ofMillis(100), 2, Duration.ZERO, 64, 4, 16);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Soak deve gravar a série temporal de recursos durante a execução")
+    void deveGravarSerieTemporalDeRecursos() throws IOException {
+        Path output = directory.resolve("soak.csv");
+
+        SoakReport report = new SoakRunner(new PostsEndpoint(localBaseUrl())).run(PROFILE, output);
+
+        List<String> lines = Files.readAllLines(output);
+        assertThat(lines.get(0), equalTo(ResourceSample.CSV_HEADER));
+        assertThat(lines, hasSize(report.samples().size() + 1));
+        assertThat(report.samples().size(), greaterThanOrEqualTo(10));
+        assertThat(report.load().totalRequests(), greaterThan(0L));
+        assertThat(report.samples().get(0).liveThreads(), greaterThan(0));
+        assertThat(report.leaks(), empty());
+    }
+
+    @Test
+    @DisplayName("Heap retido crescendo após o aquecimento deve ser apontado como vazamento")
+    void deveApontarCrescimentoDeHeapAposAquecimento() {
+        List<ResourceSample> samples = new ArrayList<>();
+        for (int second = 0; second < 60; second++) {
+            samples.add(sample(second, 100 + second * 4, 8));
+        }
+
+        SoakReport report = SoakReport.analyze(profile(Duration.ofSeconds(10)), null, samples);
+
+        assertThat(report.leaks(), hasSize(1));
+        assertThat(report.leaks().get(0), containsString("heap retido"));
+        assertThat(report.format(), containsString("VAZAMENTO"));
+    }
+
+    @Test
+    @DisplayName("Crescimento só durante o aquecimento não deve ser tratado como vazamento")
+    void deveIgnorarCrescimentoDuranteAquecimento() {
+        List<ResourceSample> samples = new ArrayList<>();
+        for (int second = 0; second < 60; second++) {
+            boolean warmingUp = second < 20;
+            samples.add(sample(second, warmingUp ? second * 20 : 400 + second % 3, warmingUp ? second : 20));
+        }
+
+        SoakReport report = SoakReport.analyze(profile(Duration.ofSeconds(20)), null, samples);
+
+        assertThat(report.passed(), equalTo(true));
+    }
+
+    private static SoakProfile profile(Duration warmup) {
+        return new SoakProfile(Duration.ofMinutes(1), warmup, Duration.ofSeconds(1), 1, Duration.ZERO, 64, 4, 16);
+    }
+
+    private static ResourceSample sample(int second, double retainedMb, int connections) {
+        return new ResourceSample(second * 1000L, retainedMb + 50, retainedMb, second, 1, 20, 100, connections, 0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.gabriel.tests;
+
+import com.gabriel.daemon.SuiteDaemon;
+import com.gabriel.daemon.SuiteDaemonClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+
+@Isolated
+class SuiteDaemonTest {
+
+    private static SuiteDaemon daemon;
+
+    @BeforeAll
+    static void startDaemon() {
+        daemon = SuiteDaemon.start(0);
+    }
+
+    @AfterAll
+    static void stopDaemon() {
+        daemon.close();
+    }
+
+    @Test
+    @DisplayName("Daemon deve responder ao ping pelo socket local")
+    void deveResponderPing() {
+        assertThat(SuiteDaemonClient.send(daemon.getPort(), "ping"), contains("PONG"));
+    }
+
+    @Test
+    @DisplayName("Daemon deve executar classe e método informados e devolver o resultado")
+    void deveExecutarClasseEMetodo() {
+        List<String> classRun = SuiteDaemonClient.send(daemon.getPort(), "run PostPayloadTest");
+        List<String> methodRun = SuiteDaemonClient.send(daemon.getPort(),
+                "run com.gabriel.tests.TestConfigTest#deveCarregarContentTypeCorretamente");
+
+        assertThat(classRun, hasItem(startsWith("RESULT total=")));
+        assertThat(classRun.get(classRun.size() - 1), containsString(" failed=0 "));
+        assertThat(methodRun, hasItem(startsWith("RESULT total=1 passed=1 failed=0")));
+    }
+
+    @Test
+    @DisplayName("Execução repetida no daemon aquecido deve levar menos de um segundo")
+    void deveReexecutarRapidamenteComJvmAquecida() {
+        SuiteDaemonClient.send(daemon.getPort(), "run PostPayloadTest");
+
+        long started = System.nanoTime();
+        List<String> rerun = SuiteDaemonClient.send(daemon.getPort(), "run PostPayloadTest");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(rerun, hasItem(startsWith("RESULT")));
+        assertThat(elapsedMillis, lessThan(1000L));
+    }
+
+    @Test
+    @DisplayName("Daemon deve carregar a versão recompilada da classe de teste a cada execução")
+    void deveCarregarClasseRecompiladaACadaExecucao(@TempDir Path classesDir) throws IOException {
+        System.setProperty("daemon.test.classes.dir", classesDir.toString());
+        try {
+            compileProbe(classesDir, 2);
+            List<String> failing = SuiteDaemonClient.send(daemon.getPort(), "run DaemonReloadProbe");
+            compileProbe(classesDir, 1);
+            List<String> fixed = SuiteDaemonClient.send(daemon.getPort(), "run DaemonReloadProbe");
+
+            assertThat(failing, hasItem(startsWith("RESULT total=1 passed=0 failed=1")));
+            assertThat(fixed, hasItem(startsWith("RESULT total=1 passed=1 failed=0")));
+        } finally {
+            System.clearProperty("daemon.test.classes.dir");
+        }
+    }
+
+    @Test
+    @DisplayName("Daemon deve informar erro para classe inexistente")
+    void deveInformarClasseInexistente() {
+        assertThat(SuiteDaemonClient.send(daemon.getPort(), "run ClasseQueNaoExiste"),
+                hasItem(startsWith("ERRO classe de teste não encontrada")));
+    }
+
+    @Test
+    @DisplayName("Daemon deve continuar atendendo após comando inválido e conexão interrompida")
+    void deveContinuarAtendendoAposFalhas() throws IOException {
+        List<String> invalid = SuiteDaemonClient.send(daemon.getPort(), "run PostsCrudTest#");
+        try (Socket reset = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+            reset.setSoLinger(true, 0);
+        }
+
+        assertThat(invalid, hasItem(startsWith("ERRO ")));
+        assertThat(SuiteDaemonClient.send(daemon.getPort(), "ping"), contains("PONG"));
+    }
+
+    private static void compileProbe(Path classesDir, int expected) throws IOException {
+        Path source = Files.createDirectories(classesDir.resolve("src")).resolve("DaemonReloadProbe.java");
+        Files.writeString(source, """
+                package com.gabriel.tests;
+
+                class DaemonReloadProbe {
+                    @org.junit.jupiter.api.Test
+                    void deveRefletirUltimaCompilacao() {
+                        org.junit.jupiter.api.Assertions.assertEquals(%d, 1);
+                    }
+                }
+                """.formatted(expected));
+        int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classesDir.toString(),
+                "-cp", System.getProperty("java.class.path"), source.toString());
+        assertThat(status, equalTo(0));
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Map;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TestDataTest {
 
@@ -46,4 +48,20 @@ class TestDataTest {
         assertThat(patchPostData.get("title"), notNullValue());
         assertThat(Integer.parseInt(patchPostData.get("id").toString()), equalTo(1));
     }
+
+    @Test
+    @DisplayName("Dados devem ser convertidos uma única vez e reaproveitados")
+    void deveReaproveitarDadosConvertidos() {
+        assertThat(TestData.getCreatePostData(), sameInstance(TestData.getCreatePostData()));
+        assertThat(TestData.get("posts.update"), sameInstance(TestData.getUpdatePostData()));
+    }
+
+    @Test
+    @DisplayName("Dados em cache devem ser imutáveis")
+    void deveImpedirAlteracaoDosDados() {
+        Map<String, Object> createPostData = TestData.getCreatePostData();
+
+        assertThrows(UnsupportedOperationException.class, () -> createPostData.put("title", "alterado"));
+        assertThrows(IllegalArgumentException.class, () -> TestData.get("posts.inexistente"));
+    }
 }